@@ -0,0 +1,23 @@
+plugins {
+    id("build.java")
+    id("build.test")
+    `java-gradle-plugin`
+}
+
+group = "com.coditory.quark"
+description = "Coditory Quark Config - Gradle Plugin"
+
+dependencies {
+    implementation(project(":"))
+    testImplementation(libs.spock.core)
+    testImplementation(libs.junit.platform)
+}
+
+gradlePlugin {
+    plugins {
+        create("quarkConfig") {
+            id = "com.coditory.quark-config"
+            implementationClass = "com.coditory.quark.config.gradle.QuarkConfigPlugin"
+        }
+    }
+}
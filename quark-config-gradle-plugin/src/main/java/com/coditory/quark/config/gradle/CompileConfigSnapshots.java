@@ -0,0 +1,43 @@
+package com.coditory.quark.config.gradle;
+
+import com.coditory.quark.config.ConfigSnapshot;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+
+import javax.inject.Inject;
+import java.io.File;
+
+@CacheableTask
+public abstract class CompileConfigSnapshots extends DefaultTask {
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getConfigFiles();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDir();
+
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    @TaskAction
+    public void compile() {
+        File outputDir = getOutputDir().get().getAsFile();
+        getFileSystemOperations().delete(spec -> spec.delete(outputDir));
+        getConfigFiles().getAsFileTree().visit(details -> {
+            if (!details.isDirectory()) {
+                String snapshotPath = details.getRelativePath().getPathString() + "." + ConfigSnapshot.EXTENSION;
+                ConfigSnapshot.compile(details.getFile().toPath(), new File(outputDir, snapshotPath).toPath());
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.coditory.quark.config.gradle;
+
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Selects config files compiled into config snapshots.
+ * By default these are the base and profile configs of {@link #getConfigBaseName()},
+ * the same files that are loaded by a config loader with that base name.
+ */
+public abstract class QuarkConfigExtension {
+    public static final String NAME = "quarkConfig";
+
+    public abstract Property<String> getConfigBaseName();
+
+    public abstract ListProperty<String> getIncludes();
+}
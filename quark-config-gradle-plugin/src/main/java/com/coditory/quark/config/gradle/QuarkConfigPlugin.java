@@ -0,0 +1,63 @@
+package com.coditory.quark.config.gradle;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.language.jvm.tasks.ProcessResources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles application config files from main resources into config snapshots,
+ * so they are not parsed when the application starts.
+ */
+public class QuarkConfigPlugin implements Plugin<Project> {
+    public static final String COMPILE_CONFIG_SNAPSHOTS_TASK = "compileConfigSnapshots";
+    public static final String DEFAULT_CONFIG_BASE_NAME = "application";
+    private static final List<String> EXTENSIONS = List.of("yml", "yaml", "json", "properties");
+
+    @Override
+    public void apply(Project project) {
+        QuarkConfigExtension extension = project.getExtensions()
+                .create(QuarkConfigExtension.NAME, QuarkConfigExtension.class);
+        extension.getConfigBaseName().convention(DEFAULT_CONFIG_BASE_NAME);
+        extension.getIncludes().convention(extension.getConfigBaseName().map(QuarkConfigPlugin::includes));
+        project.getPluginManager().withPlugin("java", plugin -> configure(project, extension));
+    }
+
+    static List<String> includes(String configBaseName) {
+        return EXTENSIONS.stream()
+                .flatMap(ext -> Stream.of(
+                        "**/" + configBaseName + "." + ext,
+                        "**/" + configBaseName + "-*." + ext
+                ))
+                .toList();
+    }
+
+    private void configure(Project project, QuarkConfigExtension extension) {
+        SourceSet main = project.getExtensions()
+                .getByType(SourceSetContainer.class)
+                .getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+        TaskProvider<ProcessResources> processResources = project.getTasks()
+                .named(main.getProcessResourcesTaskName(), ProcessResources.class);
+        TaskProvider<CompileConfigSnapshots> compileSnapshots = project.getTasks()
+                .register(COMPILE_CONFIG_SNAPSHOTS_TASK, CompileConfigSnapshots.class, task -> {
+                    task.setGroup("build");
+                    task.setDescription("Compiles application config files into config snapshots.");
+                    task.dependsOn(processResources);
+                    task.getConfigFiles().from(extension.getIncludes().map(includes -> project.fileTree(
+                            processResources.map(ProcessResources::getDestinationDir),
+                            tree -> tree.include(includes)
+                    )));
+                    task.getOutputDir().convention(project.getLayout().getBuildDirectory().dir("generated/resources/quarkConfig"));
+                });
+        main.getOutput().dir(
+                Map.of("builtBy", compileSnapshots),
+                compileSnapshots.flatMap(CompileConfigSnapshots::getOutputDir)
+        );
+    }
+}
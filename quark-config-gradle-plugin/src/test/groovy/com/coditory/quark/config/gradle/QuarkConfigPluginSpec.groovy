@@ -0,0 +1,131 @@
+package com.coditory.quark.config.gradle
+
+import org.gradle.testkit.runner.BuildResult
+import org.gradle.testkit.runner.GradleRunner
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE
+
+class QuarkConfigPluginSpec extends Specification {
+    @TempDir
+    Path projectDir
+
+    def setup() {
+        Files.writeString(projectDir.resolve("settings.gradle"), "rootProject.name = 'sample'")
+        writeResource("application.yml", "a: 1")
+        writeResource("application-prod.json", '{ "a": 2 }')
+        writeResource("config/application-local.properties", "a=3")
+        writeResource("applications.yml", "a: 4")
+        writeResource("service.yml", "a: 5")
+        writeResource("service-prod.yml", "a: 6")
+        writeResource("other.txt", "a: 7")
+    }
+
+    def "should compile application configs into snapshots"() {
+        given:
+            writeBuildFile("")
+        when:
+            BuildResult result = runBuild("classes")
+        then:
+            result.task(":" + QuarkConfigPlugin.COMPILE_CONFIG_SNAPSHOTS_TASK).outcome == SUCCESS
+            snapshots() == [
+                    "application-prod.json.qcs",
+                    "application.yml.qcs",
+                    "config/application-local.properties.qcs"
+            ]
+    }
+
+    def "should compile configs with custom base name into snapshots"() {
+        given:
+            writeBuildFile("""
+                quarkConfig {
+                    configBaseName = "service"
+                }
+            """)
+        when:
+            runBuild("classes")
+        then:
+            snapshots() == ["service-prod.yml.qcs", "service.yml.qcs"]
+    }
+
+    def "should compile configs matching custom includes into snapshots"() {
+        given:
+            writeBuildFile("""
+                quarkConfig {
+                    includes = ["**/*.yml"]
+                }
+            """)
+        when:
+            runBuild("classes")
+        then:
+            snapshots() == ["application.yml.qcs", "applications.yml.qcs", "service-prod.yml.qcs", "service.yml.qcs"]
+    }
+
+    def "should not compile snapshots again when configs did not change"() {
+        given:
+            writeBuildFile("")
+            runBuild("classes")
+        when:
+            BuildResult result = runBuild("classes")
+        then:
+            result.task(":" + QuarkConfigPlugin.COMPILE_CONFIG_SNAPSHOTS_TASK).outcome == UP_TO_DATE
+    }
+
+    def "should add snapshots to main output"() {
+        given:
+            writeBuildFile("""
+                tasks.register("printMainOutput") {
+                    def dirs = sourceSets.main.output.dirs
+                    doLast {
+                        dirs.each { println("output: " + it) }
+                    }
+                }
+            """)
+        when:
+            BuildResult result = runBuild("printMainOutput")
+        then:
+            result.output.contains("output: " + projectDir.toRealPath().resolve("build/generated/resources/quarkConfig"))
+    }
+
+    private void writeBuildFile(String content) {
+        Files.writeString(projectDir.resolve("build.gradle"), """
+            plugins {
+                id 'java'
+                id 'com.coditory.quark-config'
+            }
+        """.stripIndent() + content.stripIndent())
+    }
+
+    private void writeResource(String path, String content) {
+        Path file = projectDir.resolve("src/main/resources").resolve(path)
+        Files.createDirectories(file.getParent())
+        Files.writeString(file, content)
+    }
+
+    private Path snapshotsDir() {
+        return projectDir.resolve("build/generated/resources/quarkConfig")
+    }
+
+    private List<String> snapshots() {
+        Path dir = snapshotsDir()
+        return Files.walk(dir).withCloseable { files ->
+            files.filter { Files.isRegularFile(it) }
+                    .map { dir.relativize(it).toString().replace(File.separator, "/") }
+                    .sorted()
+                    .toList()
+        }
+    }
+
+    private BuildResult runBuild(String... args) {
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withArguments(args)
+                .withPluginClasspath()
+                .build()
+    }
+}
@@ -0,0 +1,13 @@
+plugins {
+    id("build.java")
+    id("build.test")
+}
+
+group = "com.coditory.quark"
+description = "Coditory Quark Config - Config Schema Annotation Processor"
+
+dependencies {
+    testImplementation(project(":"))
+    testImplementation(libs.spock.core)
+    testImplementation(libs.junit.platform)
+}
@@ -0,0 +1,141 @@
+package com.coditory.quark.config.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates {@code ConfigSchema_<Name>} implementations of interfaces annotated with
+ * {@code com.coditory.quark.config.ConfigSchema}. Generated classes read values with
+ * precompiled config keys, so binding needs no reflection at runtime.
+ */
+@SupportedAnnotationTypes(ConfigSchemaProcessor.CONFIG_SCHEMA)
+public final class ConfigSchemaProcessor extends AbstractProcessor {
+    static final String CONFIG_SCHEMA = "com.coditory.quark.config.ConfigSchema";
+    static final String GENERATED_PREFIX = "ConfigSchema_";
+
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    process(element);
+                } catch (InvalidSchemaException e) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void process(Element element) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+            throw new InvalidSchemaException("@ConfigSchema can only be used on interfaces", element);
+        }
+        TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidSchemaException("@ConfigSchema interface must not be generic", element);
+        }
+        List<SchemaProperty> properties = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (isAccessor(method)) {
+                properties.add(SchemaProperty.of(method, this::isSchema));
+            }
+        }
+        String source = new SchemaWriter(elements, type, properties).write();
+        String name = qualifiedGeneratedName(elements, type);
+        try {
+            JavaFileObject file = filer.createSourceFile(name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            throw new InvalidSchemaException("Could not write " + name + ": " + e.getMessage(), element);
+        }
+    }
+
+    private boolean isAccessor(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.STATIC)) {
+            return false;
+        }
+        Element owner = method.getEnclosingElement();
+        if (owner instanceof TypeElement ownerType && ownerType.getQualifiedName().contentEquals("java.lang.Object")) {
+            return false;
+        }
+        if (!method.getParameters().isEmpty()
+                || !method.getTypeParameters().isEmpty()
+                || method.getReturnType().getKind() == TypeKind.VOID) {
+            throw new InvalidSchemaException("@ConfigSchema accessor must be parameterless and return a value", method);
+        }
+        return true;
+    }
+
+    private boolean isSchema(TypeElement type) {
+        return type.getAnnotationMirrors().stream()
+                .anyMatch(annotation -> ((TypeElement) annotation.getAnnotationType().asElement())
+                        .getQualifiedName().contentEquals(CONFIG_SCHEMA));
+    }
+
+    static String generatedSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, enclosingType.getSimpleName() + "_");
+            enclosing = enclosingType.getEnclosingElement();
+        }
+        return GENERATED_PREFIX + name;
+    }
+
+    static String qualifiedGeneratedName(Elements elements, TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        return packageName.isEmpty()
+                ? generatedSimpleName(type)
+                : packageName + "." + generatedSimpleName(type);
+    }
+
+    static final class InvalidSchemaException extends RuntimeException {
+        private final transient Element element;
+
+        InvalidSchemaException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.coditory.quark.config.processor;
+
+import com.coditory.quark.config.processor.ConfigSchemaProcessor.InvalidSchemaException;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+record SchemaProperty(
+        String name,
+        String declaredType,
+        TypeKind typeKind,
+        Cardinality cardinality,
+        Kind kind,
+        TypeElement valueType
+) {
+    private static final String CONFIG = "com.coditory.quark.config.Config";
+    // there is no config value parser for characters
+    private static final String CHARACTER = "java.lang.Character";
+
+    enum Cardinality {
+        SINGLE, OPTIONAL, LIST
+    }
+
+    enum Kind {
+        VALUE, CONFIG, SCHEMA
+    }
+
+    static SchemaProperty of(ExecutableElement method, Predicate<TypeElement> isSchema) {
+        String name = method.getSimpleName().toString();
+        TypeMirror type = method.getReturnType();
+        if (type.getKind() == TypeKind.CHAR) {
+            throw new InvalidSchemaException("Unsupported @ConfigSchema accessor type: " + type, method);
+        }
+        if (type.getKind().isPrimitive()) {
+            return new SchemaProperty(name, primitiveName(type.getKind()), type.getKind(), Cardinality.SINGLE, Kind.VALUE, null);
+        }
+        if (!(type instanceof DeclaredType declared)) {
+            throw new InvalidSchemaException("Unsupported @ConfigSchema accessor type: " + type, method);
+        }
+        TypeElement element = (TypeElement) declared.asElement();
+        String qualifiedName = element.getQualifiedName().toString();
+        Cardinality cardinality = switch (qualifiedName) {
+            case "java.util.Optional" -> Cardinality.OPTIONAL;
+            case "java.util.List" -> Cardinality.LIST;
+            default -> Cardinality.SINGLE;
+        };
+        DeclaredType valueType = declared;
+        if (cardinality != Cardinality.SINGLE) {
+            if (declared.getTypeArguments().size() != 1
+                    || !(declared.getTypeArguments().get(0) instanceof DeclaredType argument)) {
+                throw new InvalidSchemaException("Expected concrete type argument in: " + type, method);
+            }
+            valueType = argument;
+        }
+        if (!valueType.getTypeArguments().isEmpty()) {
+            throw new InvalidSchemaException("Unsupported generic @ConfigSchema value type: " + valueType, method);
+        }
+        TypeElement valueElement = (TypeElement) valueType.asElement();
+        if (valueElement.getQualifiedName().contentEquals(CHARACTER)) {
+            throw new InvalidSchemaException("Unsupported @ConfigSchema value type: " + valueType, method);
+        }
+        Kind kind = valueElement.getQualifiedName().contentEquals(CONFIG)
+                ? Kind.CONFIG
+                : isSchema.test(valueElement) ? Kind.SCHEMA : Kind.VALUE;
+        return new SchemaProperty(name, typeName(declared), TypeKind.DECLARED, cardinality, kind, valueElement);
+    }
+
+    boolean isPrimitive() {
+        return typeKind.isPrimitive();
+    }
+
+    String boxedType() {
+        return switch (typeKind) {
+            case BOOLEAN -> "java.lang.Boolean";
+            case BYTE -> "java.lang.Byte";
+            case SHORT -> "java.lang.Short";
+            case INT -> "java.lang.Integer";
+            case LONG -> "java.lang.Long";
+            case FLOAT -> "java.lang.Float";
+            case DOUBLE -> "java.lang.Double";
+            default -> valueType.getQualifiedName().toString();
+        };
+    }
+
+    private static String primitiveName(TypeKind kind) {
+        return kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    // built from elements, because TypeMirror.toString() includes type annotations
+    private static String typeName(DeclaredType type) {
+        StringBuilder name = new StringBuilder(((TypeElement) type.asElement()).getQualifiedName());
+        if (!type.getTypeArguments().isEmpty()) {
+            name.append('<');
+            for (int i = 0; i < type.getTypeArguments().size(); ++i) {
+                if (i > 0) {
+                    name.append(", ");
+                }
+                name.append(typeName((DeclaredType) type.getTypeArguments().get(i)));
+            }
+            name.append('>');
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,209 @@
+package com.coditory.quark.config.processor;
+
+import com.coditory.quark.config.processor.SchemaProperty.Cardinality;
+import com.coditory.quark.config.processor.SchemaProperty.Kind;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.coditory.quark.config.processor.ConfigSchemaProcessor.generatedSimpleName;
+import static com.coditory.quark.config.processor.ConfigSchemaProcessor.qualifiedGeneratedName;
+
+final class SchemaWriter {
+    private static final String CONFIG = "com.coditory.quark.config.Config";
+    private static final String CONFIG_KEY = "com.coditory.quark.config.ConfigKey";
+
+    private final Elements elements;
+    private final TypeElement type;
+    private final List<SchemaProperty> properties;
+    private final String className;
+    private final String[] keyNames;
+    private final StringBuilder out = new StringBuilder();
+
+    SchemaWriter(Elements elements, TypeElement type, List<SchemaProperty> properties) {
+        this.elements = elements;
+        this.type = type;
+        this.properties = properties;
+        this.className = generatedSimpleName(type);
+        this.keyNames = keyNames(properties);
+    }
+
+    String write() {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        String interfaceName = type.getQualifiedName().toString();
+        String visibility = type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+        line("// Generated by " + ConfigSchemaProcessor.class.getName() + ". Do not edit.");
+        line(visibility + "final class " + className + " implements " + interfaceName + " {");
+        writeKeys();
+        line("");
+        line("    " + visibility + "static " + interfaceName + " from(" + CONFIG + " config) {");
+        line("        return new " + className + "(config);");
+        line("    }");
+        line("");
+        for (SchemaProperty property : properties) {
+            line("    private final " + property.declaredType() + " " + property.name() + ";");
+        }
+        line("");
+        writeConstructor();
+        for (SchemaProperty property : properties) {
+            line("");
+            line("    @Override");
+            line("    public " + property.declaredType() + " " + property.name() + "() {");
+            line("        return " + property.name() + ";");
+            line("    }");
+        }
+        line("");
+        writeEquals();
+        line("");
+        writeHashCode();
+        line("");
+        writeToString();
+        line("}");
+        return out.toString();
+    }
+
+    private void writeKeys() {
+        for (int i = 0; i < properties.size(); ++i) {
+            SchemaProperty property = properties.get(i);
+            if (property.kind() == Kind.VALUE && property.cardinality() != Cardinality.LIST) {
+                String valueType = property.boxedType();
+                line("    private static final " + CONFIG_KEY + "<" + valueType + "> " + keyNames[i]
+                        + " = " + CONFIG_KEY + ".of(" + literal(property.name()) + ", " + valueType + ".class);");
+            }
+        }
+    }
+
+    private void writeConstructor() {
+        line("    private " + className + "(" + CONFIG + " config) {");
+        line("        java.util.Objects.requireNonNull(config, \"config\");");
+        for (int i = 0; i < properties.size(); ++i) {
+            SchemaProperty property = properties.get(i);
+            line("        this." + property.name() + " = " + readExpression(property, keyNames[i]) + ";");
+        }
+        line("    }");
+    }
+
+    private String readExpression(SchemaProperty property, String keyName) {
+        String path = literal(property.name());
+        return switch (property.kind()) {
+            case VALUE -> switch (property.cardinality()) {
+                case SINGLE -> "config.get(" + keyName + ")";
+                case OPTIONAL -> "java.util.Optional.ofNullable(config.getOrNull(" + keyName + "))";
+                case LIST -> "config.getList(" + property.boxedType() + ".class, " + path + ")";
+            };
+            case CONFIG -> switch (property.cardinality()) {
+                case SINGLE -> "config.getSubConfig(" + path + ")";
+                case OPTIONAL -> "config.getSubConfigAsOptional(" + path + ")";
+                case LIST -> "config.getSubConfigList(" + path + ")";
+            };
+            case SCHEMA -> {
+                String schema = qualifiedGeneratedName(elements, property.valueType());
+                yield switch (property.cardinality()) {
+                    case SINGLE -> schema + ".from(config.getSubConfig(" + path + "))";
+                    case OPTIONAL -> "config.getSubConfigAsOptional(" + path + ").map(" + schema + "::from)";
+                    case LIST -> "config.getSubConfigList(" + path + ").stream().map(" + schema + "::from).toList()";
+                };
+            }
+        };
+    }
+
+    private void writeEquals() {
+        line("    @Override");
+        line("    public boolean equals(Object o) {");
+        line("        if (this == o) return true;");
+        line("        if (!(o instanceof " + className + " other)) return false;");
+        StringBuilder expression = new StringBuilder();
+        for (SchemaProperty property : properties) {
+            String name = property.name();
+            if (!expression.isEmpty()) {
+                expression.append("\n                && ");
+            }
+            if (property.typeKind() == TypeKind.DOUBLE) {
+                expression.append("Double.compare(").append(name).append(", other.").append(name).append(") == 0");
+            } else if (property.typeKind() == TypeKind.FLOAT) {
+                expression.append("Float.compare(").append(name).append(", other.").append(name).append(") == 0");
+            } else if (property.isPrimitive()) {
+                expression.append(name).append(" == other.").append(name);
+            } else {
+                expression.append("java.util.Objects.equals(").append(name).append(", other.").append(name).append(")");
+            }
+        }
+        if (expression.isEmpty()) {
+            expression.append("true");
+        }
+        line("        return " + expression + ";");
+        line("    }");
+    }
+
+    private void writeHashCode() {
+        StringBuilder arguments = new StringBuilder();
+        for (SchemaProperty property : properties) {
+            if (!arguments.isEmpty()) {
+                arguments.append(", ");
+            }
+            arguments.append(property.name());
+        }
+        line("    @Override");
+        line("    public int hashCode() {");
+        line("        return java.util.Objects.hash(" + arguments + ");");
+        line("    }");
+    }
+
+    private void writeToString() {
+        StringBuilder expression = new StringBuilder();
+        for (int i = 0; i < properties.size(); ++i) {
+            String name = properties.get(i).name();
+            String prefix = (i == 0 ? type.getSimpleName() + "[" : ", ") + name + "=";
+            expression.append(literal(prefix)).append(" + ").append(name).append(" + ");
+        }
+        if (expression.isEmpty()) {
+            expression.append(literal(type.getSimpleName() + "[")).append(" + ");
+        }
+        expression.append("\"]\"");
+        line("    @Override");
+        line("    public String toString() {");
+        line("        return " + expression + ";");
+        line("    }");
+    }
+
+    private void line(String line) {
+        out.append(line).append('\n');
+    }
+
+    private static String[] keyNames(List<SchemaProperty> properties) {
+        String[] names = new String[properties.size()];
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < names.length; ++i) {
+            String name = constantName(properties.get(i).name()) + "_KEY";
+            names[i] = used.add(name) ? name : name + "_" + i;
+        }
+        return names;
+    }
+
+    private static String constantName(String name) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < name.length(); ++i) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                result.append('_');
+            }
+            result.append(c);
+        }
+        return result.toString().toUpperCase(Locale.ROOT);
+    }
+
+    // property names are java identifiers, so they never need escaping
+    private static String literal(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,137 @@
+package com.coditory.quark.config.processor
+
+import com.coditory.quark.config.Config
+import com.coditory.quark.config.MissingConfigValueException
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.ToolProvider
+import java.nio.file.Path
+import java.time.Duration
+
+class ConfigSchemaProcessorSpec extends Specification {
+    @TempDir
+    Path output
+
+    def "should generate config schema implementation"() {
+        given:
+            ClassLoader classLoader = compile("app.HttpConfig", """
+                package app;
+
+                import com.coditory.quark.config.ConfigSchema;
+                import java.time.Duration;
+                import java.util.List;
+                import java.util.Optional;
+
+                @ConfigSchema
+                public interface HttpConfig {
+                    Duration timeout();
+
+                    int port();
+
+                    Optional<String> host();
+
+                    List<Integer> ports();
+
+                    TlsConfig tls();
+
+                    @ConfigSchema
+                    interface TlsConfig {
+                        boolean enabled();
+                    }
+                }
+            """)
+            Config config = Config.of([timeout: "5s", port: "8080", ports: [1, 2], tls: [enabled: true]])
+        when:
+            Object result = classLoader.loadClass("app.ConfigSchema_HttpConfig")
+                    .getMethod("from", Config)
+                    .invoke(null, config)
+        then:
+            result.timeout() == Duration.ofSeconds(5)
+            result.port() == 8080
+            result.host() == Optional.empty()
+            result.ports() == [1, 2]
+            result.tls().enabled()
+            result.toString() == "HttpConfig[timeout=PT5S, port=8080, host=Optional.empty, ports=[1, 2], tls=TlsConfig[enabled=true]]"
+    }
+
+    def "should fail on missing config value"() {
+        given:
+            ClassLoader classLoader = compile("app.PortConfig", """
+                package app;
+
+                @com.coditory.quark.config.ConfigSchema
+                public interface PortConfig {
+                    int port();
+                }
+            """)
+        when:
+            classLoader.loadClass("app.ConfigSchema_PortConfig")
+                    .getMethod("from", Config)
+                    .invoke(null, Config.empty())
+        then:
+            Exception e = thrown(Exception)
+            e.cause instanceof MissingConfigValueException
+    }
+
+    def "should reject accessor with parameters"() {
+        when:
+            compile("app.InvalidConfig", """
+                package app;
+
+                @com.coditory.quark.config.ConfigSchema
+                public interface InvalidConfig {
+                    int port(String name);
+                }
+            """)
+        then:
+            IllegalStateException e = thrown(IllegalStateException)
+            e.message.contains("@ConfigSchema accessor must be parameterless and return a value")
+    }
+
+    def "should reject character accessor"() {
+        when:
+            compile("app.CharConfig", """
+                package app;
+
+                @com.coditory.quark.config.ConfigSchema
+                public interface CharConfig {
+                    ${type} separator();
+                }
+            """)
+        then:
+            IllegalStateException e = thrown(IllegalStateException)
+            e.message.contains("Unsupported @ConfigSchema")
+        where:
+            type << ["char", "Character", "java.util.Optional<Character>"]
+    }
+
+    private ClassLoader compile(String className, String source) {
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE
+        ) {
+            @Override
+            CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source.stripIndent()
+            }
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>()
+        List<String> options = ["-d", output.toString(), "-classpath", System.getProperty("java.class.path")]
+        def task = ToolProvider.getSystemJavaCompiler()
+                .getTask(null, null, diagnostics, options, null, [file])
+        task.setProcessors([new ConfigSchemaProcessor()])
+        if (!task.call()) {
+            String errors = diagnostics.diagnostics
+                    .findAll { it.kind == Diagnostic.Kind.ERROR }
+                    .collect { it.getMessage(Locale.ROOT) }
+                    .join("\n")
+            throw new IllegalStateException("Compilation failed:\n" + errors)
+        }
+        return new URLClassLoader([output.toUri().toURL()] as URL[], getClass().classLoader)
+    }
+}
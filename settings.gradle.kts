@@ -1,5 +1,8 @@
 rootProject.name = "quark-config"
 
+include("quark-config-processor")
+include("quark-config-gradle-plugin")
+
 includeBuild("build-logic")
 
 plugins {
@@ -3,10 +3,9 @@ package com.coditory.quark.config;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -78,6 +77,44 @@ public final class AuditableConfig extends ConfigDecorator {
         return super.getAsOptional(type, path);
     }
 
+    @Nullable
+    @Override
+    public <T> T getOrNull(@NotNull ConfigKey<T> key) {
+        markAsUsedProperty(key.getPath());
+        return super.getOrNull(key);
+    }
+
+    @NotNull
+    @Override
+    public <T> T bind(@NotNull Class<T> type) {
+        markAsUsedProperty(ConfigBinder.propertyNames(type));
+        return super.bind(type);
+    }
+
+    @Override
+    public boolean getBooleanValue(@NotNull String path, boolean defaultValue) {
+        markAsUsedProperty(path);
+        return super.getBooleanValue(path, defaultValue);
+    }
+
+    @Override
+    public int getIntValue(@NotNull String path, int defaultValue) {
+        markAsUsedProperty(path);
+        return super.getIntValue(path, defaultValue);
+    }
+
+    @Override
+    public long getLongValue(@NotNull String path, long defaultValue) {
+        markAsUsedProperty(path);
+        return super.getLongValue(path, defaultValue);
+    }
+
+    @Override
+    public double getDoubleValue(@NotNull String path, double defaultValue) {
+        markAsUsedProperty(path);
+        return super.getDoubleValue(path, defaultValue);
+    }
+
     @NotNull
     public AuditableConfig markAsUsedProperty(@NotNull String... paths) {
         Arrays.stream(paths).forEach(path -> {
@@ -101,13 +138,16 @@ public final class AuditableConfig extends ConfigDecorator {
     }
 
     public void failOnUnusedProperties() {
-        Map<String, Object> properties = unreadConfig.toFlatMap().entrySet().stream()
-                .filter(entry -> entry.getValue() != USED_MARKER)
-                .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+        List<String> properties = new ArrayList<>();
+        unreadConfig.forEachLeaf((path, value) -> {
+            if (value != USED_MARKER) {
+                properties.add(path);
+            }
+        });
         if (!properties.isEmpty()) {
             int limit = 5;
             Path configPath = Path.parse(super.getPath());
-            List<String> names = properties.keySet().stream()
+            List<String> names = properties.stream()
                     .map(p -> configPath.add(p).toString())
                     .sorted()
                     .toList();
@@ -1,14 +1,33 @@
 package com.coditory.quark.config;
 
 class BooleanParser {
-    static Boolean parseBoolean(String value) {
-        String normalized = value.trim().toLowerCase();
-        if ("true".equals(normalized)) {
+    static Boolean parseBoolean(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (equalsIgnoreCase(value, start, end, "true")) {
             return true;
         }
-        if ("false".equals(normalized)) {
+        if (equalsIgnoreCase(value, start, end, "false")) {
             return false;
         }
         throw new ConfigParseException("Could not parse boolean value: " + value);
     }
+
+    private static boolean equalsIgnoreCase(CharSequence value, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); ++i) {
+            if (Character.toLowerCase(value.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
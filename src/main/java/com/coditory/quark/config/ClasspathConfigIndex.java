@@ -0,0 +1,235 @@
+package com.coditory.quark.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+/**
+ * Index of config resources on the classpath, built once per class loader.
+ * When every classpath root of a class loader is a local directory or jar, the listing is authoritative:
+ * missing config files are answered without asking the class loader.
+ * Jars are read in a single pass that keeps only config file names.
+ * Directories are listed once per requested directory.
+ * Other class loaders are asked for every name, and the answers are cached.
+ */
+final class ClasspathConfigIndex {
+    // values must not reference the class loader, so it can still be collected
+    private static final Map<ClassLoader, LoaderIndex> INDEXES = new WeakHashMap<>();
+
+    private ClasspathConfigIndex() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    static void clear() {
+        synchronized (INDEXES) {
+            INDEXES.clear();
+        }
+    }
+
+    static URL getResource(ClassLoader classLoader, String resource) {
+        return contains(classLoader, resource)
+                ? classLoader.getResource(resource)
+                : null;
+    }
+
+    static boolean contains(ClassLoader classLoader, String resource) {
+        if (!isConfigResource(resource)) {
+            return classLoader.getResource(resource) != null;
+        }
+        LoaderIndex index = index(classLoader);
+        return index.roots != null
+                ? index.isListed(resource)
+                : index.confirmed.computeIfAbsent(resource, it -> classLoader.getResource(it) != null);
+    }
+
+    static boolean isAuthoritative(ClassLoader classLoader) {
+        return index(classLoader).roots != null;
+    }
+
+    private static LoaderIndex index(ClassLoader classLoader) {
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(classLoader, it -> new LoaderIndex(roots(it)));
+        }
+    }
+
+    private static boolean isConfigResource(String resource) {
+        return ConfigFormat.containsConfigExtension(resource)
+                || resource.endsWith("." + ConfigSnapshot.EXTENSION);
+    }
+
+    // returns null when some roots cannot be listed
+    private static List<Path> roots(ClassLoader classLoader) {
+        Set<Path> roots = new LinkedHashSet<>();
+        ClassLoader platformClassLoader = ClassLoader.getPlatformClassLoader();
+        // the platform and the bootstrap class loaders hold no config files
+        for (ClassLoader loader = classLoader; loader != null && loader != platformClassLoader; loader = loader.getParent()) {
+            List<URI> uris = loaderRoots(loader);
+            if (uris == null) {
+                return null;
+            }
+            for (URI uri : uris) {
+                if (!"file".equals(uri.getScheme())) {
+                    return null;
+                }
+                addRoot(Path.of(uri), roots);
+            }
+        }
+        return List.copyOf(roots);
+    }
+
+    private static List<URI> loaderRoots(ClassLoader loader) {
+        try {
+            if (loader instanceof URLClassLoader urlClassLoader) {
+                List<URI> uris = new ArrayList<>();
+                for (URL url : urlClassLoader.getURLs()) {
+                    uris.add(url.toURI());
+                }
+                return uris;
+            }
+        } catch (URISyntaxException | RuntimeException e) {
+            return null;
+        }
+        if (loader == ClassLoader.getSystemClassLoader()
+                && loader.getClass().getName().startsWith("jdk.internal.loader.")
+                && System.getProperty("jdk.module.path", "").isEmpty()) {
+            List<URI> uris = new ArrayList<>();
+            for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                uris.add(Path.of(entry.isEmpty() ? "." : entry).toAbsolutePath().toUri());
+            }
+            return uris;
+        }
+        return null;
+    }
+
+    private static void addRoot(Path root, Set<Path> roots) {
+        if (!roots.add(root) || !Files.isRegularFile(root)) {
+            return;
+        }
+        // jars can add roots with a manifest Class-Path
+        for (URI uri : manifestClassPath(root)) {
+            if ("file".equals(uri.getScheme())) {
+                addRoot(Path.of(uri), roots);
+            }
+        }
+    }
+
+    private static List<URI> manifestClassPath(Path jarPath) {
+        try (JarFile jar = new JarFile(jarPath.toFile())) {
+            Manifest manifest = jar.getManifest();
+            String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (classPath == null || classPath.isBlank()) {
+                return List.of();
+            }
+            List<URI> uris = new ArrayList<>();
+            for (String entry : classPath.trim().split("\\s+")) {
+                uris.add(jarPath.toUri().resolve(entry));
+            }
+            return uris;
+        } catch (IOException | RuntimeException e) {
+            return List.of();
+        }
+    }
+
+    private static final class LoaderIndex {
+        private final List<Path> roots;
+        // config files of all jar roots by directory, read on first use
+        private volatile Map<String, Set<String>> jarListings;
+        private final Map<String, Set<String>> listings = new ConcurrentHashMap<>();
+        // used when roots cannot be listed
+        private final Map<String, Boolean> confirmed = new ConcurrentHashMap<>();
+
+        LoaderIndex(List<Path> roots) {
+            this.roots = roots;
+        }
+
+        boolean isListed(String resource) {
+            int slash = resource.lastIndexOf('/');
+            String directory = slash < 0 ? "" : resource.substring(0, slash);
+            String name = resource.substring(slash + 1);
+            return listings.computeIfAbsent(directory, this::list).contains(name);
+        }
+
+        private Set<String> list(String directory) {
+            Set<String> names = new HashSet<>(jarListings().getOrDefault(directory, Set.of()));
+            for (Path root : roots) {
+                if (Files.isDirectory(root)) {
+                    listDirectory(directory.isEmpty() ? root : root.resolve(directory), names);
+                }
+            }
+            return Set.copyOf(names);
+        }
+
+        private Map<String, Set<String>> jarListings() {
+            Map<String, Set<String>> result = jarListings;
+            if (result == null) {
+                synchronized (this) {
+                    result = jarListings;
+                    if (result == null) {
+                        result = listJars();
+                        jarListings = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Set<String>> listJars() {
+            Map<String, Set<String>> result = new HashMap<>();
+            for (Path root : roots) {
+                if (Files.isRegularFile(root)) {
+                    listJar(root, result);
+                }
+            }
+            return result;
+        }
+
+        private static void listJar(Path jarPath, Map<String, Set<String>> result) {
+            try (JarFile jar = new JarFile(jarPath.toFile())) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (!entry.isDirectory() && isConfigResource(name)) {
+                        int slash = name.lastIndexOf('/');
+                        String directory = slash < 0 ? "" : name.substring(0, slash);
+                        result.computeIfAbsent(directory, it -> new HashSet<>()).add(name.substring(slash + 1));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // not a jar, like a missing class path entry, holds no resources
+            }
+        }
+
+        private static void listDirectory(Path directory, Set<String> names) {
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .forEach(file -> names.add(file.getFileName().toString()));
+            } catch (IOException | RuntimeException e) {
+                // unreadable directories are skipped, like by the class loader
+            }
+        }
+    }
+}
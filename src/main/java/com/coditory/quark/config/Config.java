@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.coditory.quark.config.Preconditions.expect;
 import static com.coditory.quark.config.Preconditions.expectNonBlank;
@@ -58,6 +59,11 @@ public interface Config extends ConfigGetters {
     @NotNull
     Map<String, Object> toFlatMap();
 
+    void forEachLeaf(@NotNull ConfigEntryVisitor visitor);
+
+    @NotNull
+    Stream<Map.Entry<String, Object>> leaves();
+
     boolean contains(@NotNull String path);
 
     @NotNull
@@ -91,6 +97,20 @@ public interface Config extends ConfigGetters {
         return AuditableConfig.of(this);
     }
 
+    /**
+     * Binds the whole config to a record or an interface with parameterless accessors.
+     * Components are matched by name, nested records and interfaces are bound recursively.
+     */
+    @NotNull
+    <T> T bind(@NotNull Class<T> type);
+
+    @NotNull
+    default <T> T bind(@NotNull String path, @NotNull Class<T> type) {
+        expectNonBlank(path, "path");
+        expectNonNull(type, "type");
+        return getSubConfig(path).bind(type);
+    }
+
     @NotNull
     default <T> T mapSubConfig(@NotNull String path, @NotNull Function<Config, T> configMapper) {
         Config subconfig = this.getSubConfig(path);
@@ -0,0 +1,331 @@
+package com.coditory.quark.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.coditory.quark.config.MissingConfigValueException.missingConfigValueForPath;
+import static com.coditory.quark.config.Preconditions.expect;
+
+/**
+ * Binds config nodes to records and interfaces.
+ * A binding plan with component paths, converters and the constructor handle
+ * is computed once per class, so binding walks the config tree only once.
+ */
+final class ConfigBinder {
+    // A plan references only its own class, the component classes and classes of this library.
+    // ClassValue stores it on the bound class itself, so the plan never keeps an otherwise
+    // unreachable class loader alive and is collected together with the bound class.
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    private ConfigBinder() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    static boolean isBindable(Class<?> type) {
+        return type.isRecord() || (type.isInterface()
+                && !type.isAnnotation()
+                && type != Config.class
+                && !isValueInterface(type));
+    }
+
+    // JDK interfaces like CharSequence, TemporalAmount, Map or List describe values, not config sections
+    private static boolean isValueInterface(Class<?> type) {
+        return type.getName().startsWith("java.")
+                || Iterable.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+    }
+
+    static String[] propertyNames(Class<?> type) {
+        return PLANS.get(type).names.clone();
+    }
+
+    static <T> T bind(ResolvableConfig config, MapConfigNode root, Class<T> type) {
+        Object result = PLANS.get(type).bind(config, root, Path.root());
+        return type.cast(result);
+    }
+
+    private static BindingPlan createPlan(Class<?> type) {
+        if (type.isRecord()) {
+            return createRecordPlan(type);
+        }
+        expect(isBindable(type), "Expected record or interface type. Got: %s", type.getName());
+        return createInterfacePlan(type);
+    }
+
+    private static BindingPlan createRecordPlan(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        String[] names = new String[components.length];
+        ValueBinding[] bindings = new ValueBinding[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; ++i) {
+            names[i] = components[i].getName();
+            bindings[i] = valueBinding(components[i].getGenericType());
+            parameterTypes[i] = components[i].getType();
+        }
+        MethodHandle constructor;
+        try {
+            Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            constructor = MethodHandles.lookup()
+                    .unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Could not access canonical constructor of: " + type.getName(), e);
+        }
+        return new BindingPlan(type, names, bindings, constructor);
+    }
+
+    private static BindingPlan createInterfacePlan(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            expect(method.getParameterCount() == 0 && method.getReturnType() != void.class,
+                    "Expected only parameterless accessors in bound interface. Got: %s.%s", type.getName(), method.getName());
+            methods.add(method);
+        }
+        String[] names = new String[methods.size()];
+        ValueBinding[] bindings = new ValueBinding[methods.size()];
+        Map<Method, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < names.length; ++i) {
+            Method method = methods.get(i);
+            names[i] = method.getName();
+            bindings[i] = valueBinding(method.getGenericReturnType());
+            indexes.put(method, i);
+        }
+        MethodHandle constructor = MethodHandles.insertArguments(BoundInterface.CREATE, 0, type, names, indexes);
+        return new BindingPlan(type, names, bindings, constructor);
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ValueBinding valueBinding(Type type) {
+        if (type instanceof WildcardType wildcard) {
+            return valueBinding(wildcard.getUpperBounds()[0]);
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            if (raw == Optional.class) {
+                return new OptionalBinding(valueBinding(argument));
+            }
+            if (raw == List.class || raw == Collection.class || raw == Iterable.class) {
+                return new ListBinding(valueBinding(argument));
+            }
+            return new LeafBinding(raw);
+        }
+        expect(type instanceof Class<?>, "Unsupported bound type: %s", type);
+        Class<?> raw = (Class<?>) type;
+        if (raw == Config.class) {
+            return new SubConfigBinding();
+        }
+        if (raw.isPrimitive()) {
+            return new LeafBinding(boxed(raw));
+        }
+        return isBindable(raw)
+                ? new NestedBinding(raw)
+                : new LeafBinding(raw);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static final class BindingPlan {
+        private final Class<?> type;
+        private final String[] names;
+        private final Path[] paths;
+        private final ValueBinding[] bindings;
+        private final MethodHandle constructor;
+
+        BindingPlan(Class<?> type, String[] names, ValueBinding[] bindings, MethodHandle constructor) {
+            this.type = type;
+            this.names = names;
+            this.bindings = bindings;
+            this.constructor = constructor;
+            this.paths = new Path[names.length];
+            for (int i = 0; i < names.length; ++i) {
+                paths[i] = Path.single(names[i]);
+            }
+        }
+
+        Object bind(ResolvableConfig config, MapConfigNode node, Path path) {
+            Map<String, ConfigNode> children = node.children();
+            Object[] values = new Object[names.length];
+            for (int i = 0; i < names.length; ++i) {
+                Path componentPath = path.isRoot() ? paths[i] : path.add(names[i]);
+                ConfigNode child = children.get(names[i]);
+                values[i] = child == null
+                        ? bindings[i].bindMissing(config, componentPath)
+                        : bindings[i].bind(config, child, componentPath);
+            }
+            try {
+                return (Object) constructor.invokeExact(values);
+            } catch (RuntimeException e) {
+                throw new ConfigValueConversionException(type, path.toString(), node.unwrap(), e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ConfigValueConversionException(type, path.toString(), node.unwrap(), new IllegalStateException(e));
+            }
+        }
+    }
+
+    private interface ValueBinding {
+        Object bind(ResolvableConfig config, ConfigNode node, Path path);
+
+        default Object bindMissing(ResolvableConfig config, Path path) {
+            throw missingConfigValueForPath(config.getPath(), path.toString());
+        }
+    }
+
+    private record LeafBinding(Class<?> type) implements ValueBinding {
+        @Override
+        public Object bind(ResolvableConfig config, ConfigNode node, Path path) {
+            return config.convert(node, path, type);
+        }
+    }
+
+    private record NestedBinding(Class<?> type) implements ValueBinding {
+        @Override
+        public Object bind(ResolvableConfig config, ConfigNode node, Path path) {
+            // values parsed from text, e.g. by a custom value parser, are not config sections
+            if (!(node instanceof MapConfigNode map)) {
+                return config.convert(node, path, type);
+            }
+            // resolved lazily, so self referencing types do not recurse while planning
+            return PLANS.get(type).bind(config, map, path);
+        }
+    }
+
+    private record SubConfigBinding() implements ValueBinding {
+        @Override
+        public Object bind(ResolvableConfig config, ConfigNode node, Path path) {
+            if (!(node instanceof MapConfigNode map)) {
+                throw new ConfigValueConversionException(Config.class, path.toString(), node.unwrap());
+            }
+            return config.withRoot(path, map);
+        }
+    }
+
+    private record ListBinding(ValueBinding elementBinding) implements ValueBinding {
+        @Override
+        public Object bind(ResolvableConfig config, ConfigNode node, Path path) {
+            if (!(node instanceof ListConfigNode list)) {
+                throw new ConfigValueConversionException(List.class, path.toString(), node.unwrap());
+            }
+            List<ConfigNode> children = list.children();
+            Object[] values = new Object[children.size()];
+            for (int i = 0; i < values.length; ++i) {
+                values[i] = elementBinding.bind(config, children.get(i), path.add(i));
+            }
+            return List.of(values);
+        }
+    }
+
+    private record OptionalBinding(ValueBinding valueBinding) implements ValueBinding {
+        @Override
+        public Object bind(ResolvableConfig config, ConfigNode node, Path path) {
+            return Optional.of(valueBinding.bind(config, node, path));
+        }
+
+        @Override
+        public Object bindMissing(ResolvableConfig config, Path path) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class BoundInterface implements InvocationHandler {
+        static final MethodHandle CREATE;
+
+        static {
+            try {
+                CREATE = MethodHandles.lookup()
+                        .findStatic(BoundInterface.class, "create", MethodType.methodType(
+                                Object.class, Class.class, String[].class, Map.class, Object[].class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private static Object create(Class<?> type, String[] names, Map<Method, Integer> indexes, Object[] values) {
+            BoundInterface handler = new BoundInterface(type, names, indexes, values);
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private final Class<?> type;
+        private final String[] names;
+        private final Map<Method, Integer> indexes;
+        private final Object[] values;
+
+        private BoundInterface(Class<?> type, String[] names, Map<Method, Integer> indexes, Object[] values) {
+            this.type = type;
+            this.names = names;
+            this.indexes = indexes;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = indexes.get(method);
+            if (index != null) {
+                return values[index];
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0] || (args[0] != null
+                        && Proxy.isProxyClass(args[0].getClass())
+                        && Proxy.getInvocationHandler(args[0]) instanceof BoundInterface other
+                        && other.type == type
+                        && Arrays.equals(other.values, values));
+                case "hashCode" -> Arrays.hashCode(values);
+                case "toString" -> toString();
+                default -> throw new UnsupportedOperationException("Unsupported method: " + method);
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(type.getSimpleName()).append('[');
+            for (int i = 0; i < names.length; ++i) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(names[i]).append('=').append(values[i]);
+            }
+            return builder.append(']').toString();
+        }
+    }
+}
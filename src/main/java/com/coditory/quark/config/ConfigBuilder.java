@@ -17,6 +17,7 @@ public class ConfigBuilder {
     private MapConfigNode root = MapConfigNode.emptyRoot();
     private ConfigValueParser valueParser = new ConfigValueParser(DEFAULT_VALUE_PARSERS);
     private ConfigEntryMapper secretHidingValueMapper = defaultSecretHidingValueMapper();
+    private boolean internNodes = false;
 
     ConfigBuilder() {
         this(Map.of());
@@ -216,8 +217,20 @@ public class ConfigBuilder {
         return this;
     }
 
+    @NotNull
+    public ConfigBuilder internNodes() {
+        this.internNodes = true;
+        return this;
+    }
+
     @NotNull
     public Config build() {
-        return new ResolvableConfig(root, valueParser, secretHidingValueMapper);
+        return new ResolvableConfig(builtRoot(), valueParser, secretHidingValueMapper);
+    }
+
+    private MapConfigNode builtRoot() {
+        return internNodes
+                ? ConfigNodeInterner.intern(root)
+                : root;
     }
 }
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.coditory.quark.config.Preconditions.expectNonNull;
 
@@ -28,6 +29,44 @@ abstract class ConfigDecorator implements Config {
         return config.toFlatMap();
     }
 
+    @Override
+    public void forEachLeaf(@NotNull ConfigEntryVisitor visitor) {
+        expectNonNull(visitor, "visitor");
+        config.forEachLeaf(visitor);
+    }
+
+    @NotNull
+    @Override
+    public Stream<Map.Entry<String, Object>> leaves() {
+        return config.leaves();
+    }
+
+    @NotNull
+    @Override
+    public <T> T bind(@NotNull Class<T> type) {
+        return config.bind(type);
+    }
+
+    @Override
+    public boolean getBooleanValue(@NotNull String path, boolean defaultValue) {
+        return config.getBooleanValue(path, defaultValue);
+    }
+
+    @Override
+    public int getIntValue(@NotNull String path, int defaultValue) {
+        return config.getIntValue(path, defaultValue);
+    }
+
+    @Override
+    public long getLongValue(@NotNull String path, long defaultValue) {
+        return config.getLongValue(path, defaultValue);
+    }
+
+    @Override
+    public double getDoubleValue(@NotNull String path, double defaultValue) {
+        return config.getDoubleValue(path, defaultValue);
+    }
+
     @Override
     public boolean contains(@NotNull String path) {
         expectNonNull(path, "path");
@@ -108,4 +147,11 @@ abstract class ConfigDecorator implements Config {
         expectNonNull(path, "path");
         return config.getListAsOptional(type, path);
     }
+
+    @Nullable
+    @Override
+    public <T> T getOrNull(@NotNull ConfigKey<T> key) {
+        expectNonNull(key, "key");
+        return config.getOrNull(key);
+    }
 }
@@ -0,0 +1,5 @@
+package com.coditory.quark.config;
+
+public interface ConfigEntryVisitor {
+    void visit(String path, Object value);
+}
@@ -11,8 +11,11 @@ import static com.coditory.quark.config.ConfigSource.CLASSPATH;
 import static com.coditory.quark.config.ConfigSource.FILE_SYSTEM;
 import static com.coditory.quark.config.Preconditions.expectNonBlank;
 import static com.coditory.quark.config.Preconditions.expectNonNull;
+import static java.lang.System.Logger.Level.WARNING;
 
 public final class ConfigFactory {
+    private static final System.Logger LOGGER = System.getLogger(ConfigFactory.class.getName());
+
     @NotNull
     public static Config buildFromSystemProperties() {
         LinkedHashMap<String, Object> result = new LinkedHashMap<>();
@@ -132,10 +135,24 @@ public final class ConfigFactory {
         List<String> filePathsWithExtensions = ConfigFormat.getExtensions().stream()
                 .map(ext -> path + "." + ext)
                 .toList();
-        return filePathsWithExtensions.stream()
-                .map(configSource::load)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findFirst();
+        for (int i = 0; i < filePathsWithExtensions.size(); ++i) {
+            String filePath = filePathsWithExtensions.get(i);
+            Optional<Config> config = configSource.load(filePath);
+            if (config.isPresent()) {
+                warnOnDuplicates(configSource, path, filePath, filePathsWithExtensions.subList(i + 1, filePathsWithExtensions.size()));
+                return config;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void warnOnDuplicates(ConfigSource configSource, String path, String loaded, List<String> candidates) {
+        List<String> duplicates = candidates.stream()
+                .filter(configSource::exists)
+                .toList();
+        if (!duplicates.isEmpty()) {
+            LOGGER.log(WARNING, "Found configuration " + path + " in multiple formats. "
+                    + "Loaded: " + loaded + ". Skipped: " + String.join(", ", duplicates));
+        }
     }
 }
\ No newline at end of file
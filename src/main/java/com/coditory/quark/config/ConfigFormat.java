@@ -2,21 +2,28 @@ package com.coditory.quark.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import org.snakeyaml.engine.v2.api.ConstructNode;
 import org.snakeyaml.engine.v2.api.Dump;
 import org.snakeyaml.engine.v2.api.DumpSettings;
-import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.lowlevel.Parse;
 import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -87,22 +94,20 @@ enum ConfigFormat {
     }
 
     private static class YamlConfigParser implements ConfigFormatParser {
-        @SuppressWarnings("unchecked")
+        private static final LoadSettings LOAD_SETTINGS = LoadSettings.builder()
+                .setTagConstructors(Map.of(Tag.FLOAT, YamlConfigParser::constructFloat))
+                .build();
+        private static final Map<Tag, ConstructNode> CONSTRUCTORS = YamlEventReader.constructors(LOAD_SETTINGS);
+        private static final Parse PARSE = new Parse(LOAD_SETTINGS);
+
         @Override
         public Config parse(String config) {
-            LoadSettings settings = LoadSettings.builder().build();
-            Load yaml = new Load(settings);
-            Map<String, Object> map = (Map<String, Object>) yaml.loadFromString(config);
-            return map == null || map.isEmpty() ? Config.empty() : Config.of(map);
+            return YamlEventReader.read(LOAD_SETTINGS, CONSTRUCTORS, PARSE.parseString(config));
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public Config parse(InputStream config) {
-            LoadSettings settings = LoadSettings.builder().build();
-            Load yaml = new Load(settings);
-            Map<String, Object> map = (Map<String, Object>) yaml.loadFromInputStream(config);
-            return Config.of(map);
+            return YamlEventReader.read(LOAD_SETTINGS, CONSTRUCTORS, PARSE.parseInputStream(config));
         }
 
         @Override
@@ -113,6 +118,17 @@ enum ConfigFormat {
             dump.dumpToString(config.toMap());
             return dump.dumpToString(config.toMap());
         }
+
+        // keeps decimal values exact, a Double is used only when it holds the literal exactly
+        private static Object constructFloat(Node node) {
+            String value = ((ScalarNode) node).getValue();
+            return switch (value) {
+                case ".inf", ".Inf", ".INF", "+.inf", "+.Inf", "+.INF" -> Double.POSITIVE_INFINITY;
+                case "-.inf", "-.Inf", "-.INF" -> Double.NEGATIVE_INFINITY;
+                case ".nan", ".NaN", ".NAN" -> Double.NaN;
+                default -> NumberConverter.decimal(value);
+            };
+        }
     }
 
     private static class JsonConfigParser implements ConfigFormatParser {
@@ -121,18 +137,13 @@ enum ConfigFormat {
                 .create();
 
         @Override
-        @SuppressWarnings("unchecked")
-        public Config parse(String config) {
-            Map<String, Object> map = gson.fromJson(config, Map.class);
-            return map == null || map.isEmpty() ? Config.empty() : Config.of(map);
+        public Config parse(String config) throws IOException {
+            return JsonStreamReader.read(new StringReader(config));
         }
 
         @Override
-        @SuppressWarnings("unchecked")
-        public Config parse(InputStream config) {
-            Reader reader = new InputStreamReader(config);
-            Map<String, Object> map = gson.fromJson(reader, Map.class);
-            return Config.of(map);
+        public Config parse(InputStream config) throws IOException {
+            return JsonStreamReader.read(new BufferedReader(new InputStreamReader(config, UTF_8)));
         }
 
         @Override
@@ -164,7 +175,8 @@ enum ConfigFormat {
         @Override
         public String stringify(Config config) {
             if (config.isEmpty()) return "";
-            return config.toFlatMap().entrySet().stream()
+            return config.leaves()
+                    .sorted(Map.Entry.comparingByKey())
                     .map(entry -> entry.getKey() + "=" + entry.getValue())
                     .collect(joining("\n", "", "\n"));
         }
@@ -26,6 +26,9 @@ interface ConfigGetters {
     @NotNull
     <T> Optional<List<T>> getListAsOptional(@NotNull Class<T> type, @NotNull String path);
 
+    @Nullable
+    <T> T getOrNull(@NotNull ConfigKey<T> key);
+
     @NotNull
     default <T> T get(@NotNull Class<T> type, @NotNull String path) {
         expectNonNull(type, "type");
@@ -72,6 +75,42 @@ interface ConfigGetters {
         return getListAsOptional(type, path).orElse(defaultValue);
     }
 
+    // ConfigKey API
+
+    @NotNull
+    default <T> Optional<T> getAsOptional(@NotNull ConfigKey<T> key) {
+        expectNonNull(key, "key");
+        return Optional.ofNullable(getOrNull(key));
+    }
+
+    @NotNull
+    default <T> T get(@NotNull ConfigKey<T> key) {
+        expectNonNull(key, "key");
+        T value = getOrNull(key);
+        if (value == null) {
+            throw missingConfigValueForPath(getPath(), key.getPath());
+        }
+        return value;
+    }
+
+    @NotNull
+    default <T> T get(@NotNull ConfigKey<T> key, @NotNull T defaultValue) {
+        expectNonNull(key, "key");
+        expectNonNull(defaultValue, "defaultValue");
+        T value = getOrNull(key);
+        return value != null ? value : defaultValue;
+    }
+
+    // Primitive API
+
+    boolean getBooleanValue(@NotNull String path, boolean defaultValue);
+
+    int getIntValue(@NotNull String path, int defaultValue);
+
+    long getLongValue(@NotNull String path, long defaultValue);
+
+    double getDoubleValue(@NotNull String path, double defaultValue);
+
     // GETTERS
 
     // String API
@@ -0,0 +1,54 @@
+package com.coditory.quark.config;
+
+import com.coditory.quark.config.ConfigValueParser.TypeParser;
+import org.jetbrains.annotations.NotNull;
+
+import static com.coditory.quark.config.Preconditions.expectNonBlank;
+import static com.coditory.quark.config.Preconditions.expectNonNull;
+
+public final class ConfigKey<T> {
+    @NotNull
+    public static <T> ConfigKey<T> of(@NotNull String path, @NotNull Class<T> type) {
+        expectNonBlank(path, "path");
+        expectNonNull(type, "type");
+        return new ConfigKey<>(Path.parse(path), type);
+    }
+
+    private final Path path;
+    private final Class<T> type;
+    // configs usually share a value parser, so the last resolved one is kept
+    private volatile TypeParser<T> parser;
+
+    private ConfigKey(Path path, Class<T> type) {
+        this.path = path;
+        this.type = type;
+    }
+
+    @NotNull
+    public String getPath() {
+        return path.toString();
+    }
+
+    @NotNull
+    public Class<T> getType() {
+        return type;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    TypeParser<T> parser(ConfigValueParser valueParser) {
+        TypeParser<T> parser = this.parser;
+        if (parser == null || !parser.isOwnedBy(valueParser)) {
+            parser = valueParser.forType(type);
+            this.parser = parser;
+        }
+        return parser;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigKey{" + path + ", " + type.getSimpleName() + '}';
+    }
+}
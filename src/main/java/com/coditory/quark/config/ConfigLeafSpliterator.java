@@ -0,0 +1,153 @@
+package com.coditory.quark.config;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Walks config leaves in iteration order.
+ * Pending sub trees are kept on a stack, so a split hands over the earlier half of them.
+ * Pending nodes point to their parents and a path is built only for a leaf, in a reused buffer.
+ */
+final class ConfigLeafSpliterator implements Spliterator<Entry<String, Object>> {
+    private final ArrayDeque<Pending> pending;
+    private final StringBuilder path = new StringBuilder();
+    // sum of child counts of pending nodes, halved on every split
+    private long estimate;
+
+    ConfigLeafSpliterator(ConfigNode root) {
+        this.pending = new ArrayDeque<>();
+        this.estimate = childCount(root);
+        expand(new Pending(null, null, -1, root));
+    }
+
+    private ConfigLeafSpliterator(ArrayDeque<Pending> pending, long estimate) {
+        this.pending = pending;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<String, Object>> action) {
+        Pending next;
+        while ((next = pending.poll()) != null) {
+            if (isLeaf(next.node)) {
+                estimate = Math.max(estimate - 1, 0);
+                action.accept(Map.entry(buildPath(next), next.node.unwrap()));
+                return true;
+            }
+            expand(next);
+        }
+        estimate = 0;
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Entry<String, Object>> action) {
+        Pending next;
+        while ((next = pending.poll()) != null) {
+            next.node.forEachLeaf(appendPath(resetPath(), next), (path, value) -> action.accept(Map.entry(path, value)));
+        }
+        estimate = 0;
+    }
+
+    @Override
+    public Spliterator<Entry<String, Object>> trySplit() {
+        while (pending.size() == 1 && !isLeaf(pending.peek().node)) {
+            expand(pending.poll());
+        }
+        if (pending.size() < 2) {
+            return null;
+        }
+        int half = pending.size() / 2;
+        ArrayDeque<Pending> prefix = new ArrayDeque<>(half);
+        for (int i = 0; i < half; ++i) {
+            prefix.addLast(pending.poll());
+        }
+        long prefixEstimate = estimate / 2;
+        estimate -= prefixEstimate;
+        return new ConfigLeafSpliterator(prefix, prefixEstimate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    private void expand(Pending parent) {
+        estimate -= childCount(parent.node);
+        if (parent.node instanceof MapConfigNode mapNode) {
+            Pending[] children = new Pending[mapNode.children().size()];
+            int i = 0;
+            for (Entry<String, ConfigNode> entry : mapNode.children().entrySet()) {
+                children[i++] = new Pending(parent, entry.getKey(), -1, entry.getValue());
+            }
+            pushAll(children);
+        } else if (parent.node instanceof ListConfigNode listNode) {
+            List<ConfigNode> values = listNode.children();
+            Pending[] children = new Pending[values.size()];
+            for (int i = 0; i < children.length; ++i) {
+                children[i] = new Pending(parent, null, i, values.get(i));
+            }
+            pushAll(children);
+        }
+    }
+
+    private void pushAll(Pending[] children) {
+        for (int i = children.length - 1; i >= 0; --i) {
+            pending.push(children[i]);
+            estimate += childCount(children[i].node);
+        }
+        estimate = Math.max(estimate, 0);
+    }
+
+    private String buildPath(Pending leaf) {
+        return appendPath(resetPath(), leaf).toString();
+    }
+
+    private StringBuilder resetPath() {
+        path.setLength(0);
+        return path;
+    }
+
+    private static StringBuilder appendPath(StringBuilder builder, Pending pending) {
+        if (pending.parent == null) {
+            return builder;
+        }
+        appendPath(builder, pending.parent);
+        if (pending.key == null) {
+            builder.append('[').append(pending.index).append(']');
+        } else {
+            if (!builder.isEmpty()) {
+                builder.append('.');
+            }
+            builder.append(pending.key);
+        }
+        return builder;
+    }
+
+    private static int childCount(ConfigNode node) {
+        if (node instanceof MapConfigNode mapNode) {
+            return mapNode.children().size();
+        }
+        if (node instanceof ListConfigNode listNode) {
+            return listNode.children().size();
+        }
+        return 1;
+    }
+
+    private static boolean isLeaf(ConfigNode node) {
+        return !(node instanceof MapConfigNode) && !(node instanceof ListConfigNode);
+    }
+
+    // root has no parent, list items have no key
+    private record Pending(Pending parent, String key, int index, ConfigNode node) {
+    }
+}
@@ -11,14 +11,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.coditory.quark.config.Preconditions.expect;
 import static com.coditory.quark.config.Preconditions.expectNonBlank;
 import static com.coditory.quark.config.Preconditions.expectNonNull;
 
 public final class ConfigLoader {
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = task -> Thread.ofVirtual()
+            .name("quark-config-loader")
+            .start(task);
     private final ArgumentsParser argumentsParser = new ArgumentsParser();
     private final ConfigProfilesResolver profilesResolver = new ConfigProfilesResolver();
     private ConfigProfiles profiles = null;
@@ -31,6 +38,7 @@ public final class ConfigLoader {
     private boolean optionalBaseConfig = false;
     private Set<String> optionalProfileConfigs = null;
     private boolean profileConfigsRequired = false;
+    private Executor executor = null;
 
     @NotNull
     public ConfigLoader args(@NotNull String[] args) {
@@ -271,6 +279,24 @@ public final class ConfigLoader {
         return this;
     }
 
+    @NotNull
+    public ConfigLoader parallelLoading() {
+        return parallelLoading(VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    @NotNull
+    public ConfigLoader parallelLoading(@NotNull Executor executor) {
+        expectNonNull(executor, "executor");
+        this.executor = executor;
+        return this;
+    }
+
+    @NotNull
+    public ConfigLoader sequentialLoading() {
+        this.executor = null;
+        return this;
+    }
+
     @NotNull
     public Config loadConfig() {
         Environment environment = loadEnvironment();
@@ -281,22 +307,64 @@ public final class ConfigLoader {
     public Environment loadEnvironment() {
         Config allArgsConfig = allArgsConfig();
         ConfigProfiles profiles = resolveProfiles(allArgsConfig);
+        // all sources are started up front and merged in a fixed order,
+        // so parallel loading produces the same config as sequential one
+        Supplier<Config> systemConfig = load(ConfigFactory::buildFromSystemProperties);
+        Supplier<Config> envConfig = load(ConfigFactory::buildFromSystemEnvironment);
+        Supplier<Config> baseConfig = load(this::baseConfig);
+        List<Supplier<Config>> profileConfigs = profiles.getValues().stream()
+                .filter(profile -> profile != null && !profile.isBlank())
+                .map(profile -> load(() -> loadFromClasspath(profile)))
+                .toList();
+        Supplier<Config> externalConfig = load(() -> externalConfig(allArgsConfig));
         Config resolveConfig = Config.builder()
                 .put("_profiles", profiles.getValues())
-                .put("_system", ConfigFactory.buildFromSystemProperties())
-                .put("_env", ConfigFactory.buildFromSystemEnvironment())
+                .put("_system", systemConfig.get())
+                .put("_env", envConfig.get())
                 .put("_args", allArgsConfig)
                 .build();
         Config config = Config.builder()
-                .putAll(baseConfig())
-                .putAll(profileConfig(profiles.getValues()))
-                .putAll(externalConfig(allArgsConfig))
+                .putAll(baseConfig.get())
+                .putAll(profileConfig(profileConfigs))
+                .putAll(externalConfig.get())
                 .putAll(filteredArgsConfig(allArgsConfig))
                 .resolveExpressions(resolveConfig)
                 .build();
         return new Environment(config, profiles);
     }
 
+    private <T> Supplier<T> load(Supplier<T> loader) {
+        if (executor == null) {
+            return loader;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                return loader.get();
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }, executor);
+        return () -> join(future);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private ConfigProfiles resolveProfiles(Config argsConfig) {
         return profiles != null
                 ? profiles
@@ -307,13 +375,10 @@ public final class ConfigLoader {
         return loadFromClasspath(null);
     }
 
-    private Config profileConfig(List<String> profiles) {
+    private Config profileConfig(List<Supplier<Config>> profileConfigs) {
         ConfigBuilder configBuilder = Config.builder();
-        for (String profile : profiles) {
-            if (profile != null && !profile.isBlank()) {
-                Config profileConfig = loadFromClasspath(profile);
-                configBuilder = configBuilder.putAll(profileConfig);
-            }
+        for (Supplier<Config> profileConfig : profileConfigs) {
+            configBuilder = configBuilder.putAll(profileConfig.get());
         }
         return configBuilder.build();
     }
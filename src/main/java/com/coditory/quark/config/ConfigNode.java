@@ -1,7 +1,5 @@
 package com.coditory.quark.config;
 
-import java.util.List;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -15,6 +13,13 @@ interface ConfigNode {
 
     ConfigNode addOrReplace(Path parentPath, Path subPath, Object value);
 
+    // inserts an already built node, so it is neither unwrapped nor copied
+    ConfigNode addOrReplace(Path parentPath, Path subPath, ConfigNode node);
+
+    default ConfigNode addOrReplace(Path path, ConfigNode node) {
+        return addOrReplace(Path.root(), path, node);
+    }
+
     ConfigNode remove(Path parentPath, Path subPath, ConfigRemoveOptions options);
 
     ConfigNode withDefaults(ConfigNode root);
@@ -44,6 +49,6 @@ interface ConfigNode {
 
     boolean anyLeaf(Predicate<Object> predicate);
 
-    List<Entry<Path, Object>> entries();
+    void forEachLeaf(StringBuilder path, ConfigEntryVisitor visitor);
 }
 
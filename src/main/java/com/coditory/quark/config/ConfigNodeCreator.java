@@ -1,16 +1,22 @@
 package com.coditory.quark.config;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 class ConfigNodeCreator {
     static ConfigNode configNode(Path path, Object value) {
-        ConfigNode result = createNodeForValue(value);
+        return configNode(path, createNodeForValue(value));
+    }
+
+    static ConfigNode configNode(Path path, ConfigNode node) {
+        ConfigNode result = node;
         if (path.isRoot()) {
             return result;
         }
@@ -45,7 +51,7 @@ class ConfigNodeCreator {
             Map<Object, Object> map = (Map<Object, Object>) value;
             boolean hasStringKeys = map.keySet().stream().allMatch(k -> k instanceof String);
             if (!hasStringKeys) {
-                return new LeafConfigNode(value);
+                return LeafConfigNode.of(value);
             }
             Map<String, Object> stringKeyMap = (Map<String, Object>) value;
             Map<String, ConfigNode> result = stringKeyMap.entrySet().stream()
@@ -65,6 +71,55 @@ class ConfigNodeCreator {
                     .collect(toList());
             return new ListConfigNode(result);
         }
-        return new LeafConfigNode(value);
+        return LeafConfigNode.of(value);
+    }
+
+    /**
+     * Builds a map node from entries read by a streaming parser.
+     * Null values are skipped and dotted keys are merged as paths, just like in {@link Config#of(Map)}.
+     */
+    static final class MapNodeBuilder {
+        private PersistentHashMap<String, ConfigNode> children = PersistentHashMap.empty();
+        private Set<String> pathKeys = null;
+
+        boolean isDuplicate(String key) {
+            return children.containsKey(key)
+                    && (pathKeys == null || !pathKeys.contains(key));
+        }
+
+        void put(String key, ConfigNode value) {
+            if (value == null) {
+                return;
+            }
+            if (isSimpleKey(key) && !children.containsKey(key)) {
+                children = children.plus(key, value);
+                return;
+            }
+            Path path = Path.parseAbsolute(key);
+            if (pathKeys == null) {
+                pathKeys = new HashSet<>();
+            }
+            pathKeys.add(path.getFirstElement().name());
+            MapConfigNode merged = (MapConfigNode) new MapConfigNode(children)
+                    .addOrReplace(path, value);
+            children = PersistentHashMap.copyOf(merged.children());
+        }
+
+        MapConfigNode build() {
+            return new MapConfigNode(children);
+        }
+
+        private static boolean isSimpleKey(String key) {
+            if (key.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); ++i) {
+                char c = key.charAt(i);
+                if (c == '.' || c == '[') {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
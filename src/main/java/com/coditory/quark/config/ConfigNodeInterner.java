@@ -0,0 +1,97 @@
+package com.coditory.quark.config;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide table of canonical config nodes.
+ * Structurally equal subtrees and leaves of configs built with {@link ConfigBuilder#internNodes()}
+ * are replaced with a single shared instance. Entries are weakly referenced
+ * and disappear when no config uses them.
+ */
+final class ConfigNodeInterner {
+    // the table is split into independently locked stripes, so concurrent builds rarely contend
+    private static final int STRIPES = 32;
+    private static final Stripe[] TABLE = createTable();
+    private static final LongAdder INTERNED = new LongAdder();
+    private static final LongAdder DEDUPLICATED = new LongAdder();
+
+    private ConfigNodeInterner() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    private static Stripe[] createTable() {
+        Stripe[] table = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; ++i) {
+            table[i] = new Stripe();
+        }
+        return table;
+    }
+
+    static Stats stats() {
+        int size = 0;
+        for (Stripe stripe : TABLE) {
+            size += stripe.size();
+        }
+        return new Stats(INTERNED.sum(), DEDUPLICATED.sum(), size);
+    }
+
+    static void clear() {
+        for (Stripe stripe : TABLE) {
+            stripe.clear();
+        }
+        INTERNED.reset();
+        DEDUPLICATED.reset();
+    }
+
+    static MapConfigNode intern(MapConfigNode root) {
+        return (MapConfigNode) internNode(root);
+    }
+
+    private static ConfigNode internNode(ConfigNode node) {
+        ConfigNode withInternedChildren = node;
+        if (node instanceof MapConfigNode mapNode) {
+            withInternedChildren = mapNode.mapChildren(ConfigNodeInterner::internNode);
+        } else if (node instanceof ListConfigNode listNode) {
+            withInternedChildren = listNode.mapChildren(ConfigNodeInterner::internNode);
+        }
+        ConfigNode canonical = canonical(withInternedChildren);
+        INTERNED.increment();
+        if (canonical != withInternedChildren) {
+            DEDUPLICATED.increment();
+        }
+        return canonical;
+    }
+
+    private static ConfigNode canonical(ConfigNode node) {
+        int hash = node.hashCode();
+        return TABLE[(hash ^ (hash >>> 16)) & (STRIPES - 1)].canonical(node);
+    }
+
+    private static final class Stripe {
+        private final Map<ConfigNode, WeakReference<ConfigNode>> nodes = new WeakHashMap<>();
+
+        synchronized ConfigNode canonical(ConfigNode node) {
+            WeakReference<ConfigNode> reference = nodes.get(node);
+            ConfigNode canonical = reference != null ? reference.get() : null;
+            if (canonical != null) {
+                return canonical;
+            }
+            nodes.put(node, new WeakReference<>(node));
+            return node;
+        }
+
+        synchronized int size() {
+            return nodes.size();
+        }
+
+        synchronized void clear() {
+            nodes.clear();
+        }
+    }
+
+    record Stats(long internedNodes, long deduplicatedNodes, int size) {
+    }
+}
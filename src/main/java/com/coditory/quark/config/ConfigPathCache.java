@@ -0,0 +1,109 @@
+package com.coditory.quark.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.coditory.quark.config.Preconditions.expect;
+
+public final class ConfigPathCache {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    private static final ConcurrentHashMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final Object CLOCK_LOCK = new Object();
+    // clock hand of the second chance eviction, guarded by CLOCK_LOCK
+    private static Iterator<Map.Entry<String, Entry>> clockHand = null;
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private ConfigPathCache() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    @NotNull
+    public static Stats stats() {
+        return new Stats(HITS.sum(), MISSES.sum(), CACHE.size(), maxSize);
+    }
+
+    public static void setMaxSize(int maxSize) {
+        expect(maxSize >= 0, "Expected maxSize >= 0. Got: %d", maxSize);
+        ConfigPathCache.maxSize = maxSize;
+        evictAbove(maxSize);
+    }
+
+    public static void clear() {
+        synchronized (CLOCK_LOCK) {
+            CACHE.clear();
+            clockHand = null;
+        }
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    static Path parse(String path) {
+        Entry cached = CACHE.get(path);
+        if (cached != null) {
+            HITS.increment();
+            // hot paths are read from many threads, so the flag is written only once per sweep
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.path;
+        }
+        MISSES.increment();
+        Path parsed = Path.parse(path);
+        if (maxSize > 0) {
+            evictAbove(maxSize - 1);
+            CACHE.putIfAbsent(path, new Entry(parsed));
+        }
+        return parsed;
+    }
+
+    private static void evictAbove(int size) {
+        if (CACHE.size() <= size) {
+            return;
+        }
+        synchronized (CLOCK_LOCK) {
+            // second chance sweep that continues where the previous one stopped:
+            // recently used entries are skipped once, so hot paths are not evicted
+            int steps = 2 * CACHE.size() + 1;
+            while (CACHE.size() > size && steps-- > 0) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = CACHE.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Entry entry = clockHand.next().getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else {
+                    clockHand.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Path path;
+        private volatile boolean referenced = false;
+
+        Entry(Path path) {
+            this.path = path;
+        }
+    }
+
+    public record Stats(long hits, long misses, int size, int maxSize) {
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRate() {
+            long requests = requests();
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.coditory.quark.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface with parameterless accessors as a config schema.
+ * The quark-config-processor annotation processor generates a {@code ConfigSchema_<Name>}
+ * implementation that reads all values from a {@link Config} without reflection.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface ConfigSchema {
+}
@@ -0,0 +1,309 @@
+package com.coditory.quark.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import static com.coditory.quark.config.Preconditions.expectNonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Binary snapshot of a parsed config file.
+ * Snapshots are compiled at build time and stored next to the config file
+ * with an additional {@value #EXTENSION} extension. Config loaded from the classpath
+ * prefers a snapshot, so the text format is not parsed at runtime.
+ * A snapshot stores the size and CRC32 checksum of its config file and is ignored when the file changed.
+ */
+public final class ConfigSnapshot {
+    public static final String EXTENSION = "qcs";
+    private static final int MAGIC = 0x51434653;
+    // bump on every format change, snapshots with a different version are ignored
+    private static final int VERSION = 3;
+    private static final int MAP = 0;
+    private static final int LIST = 1;
+    private static final int STRING = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int DOUBLE = 5;
+    private static final int TRUE = 6;
+    private static final int FALSE = 7;
+    private static final int BIG_DECIMAL = 8;
+    private static final int BIG_INTEGER = 9;
+    private static final int FLOAT = 10;
+    private static final int SHORT = 11;
+    private static final int BYTE = 12;
+
+    private ConfigSnapshot() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    public static void compile(@NotNull Path configFile, @NotNull Path snapshotFile) {
+        expectNonNull(configFile, "configFile");
+        expectNonNull(snapshotFile, "snapshotFile");
+        ConfigFormat format = ConfigFormat.getFormatForFilePath(configFile.toString());
+        byte[] source;
+        Config config;
+        try {
+            source = Files.readAllBytes(configFile);
+            config = format.parse(new ByteArrayInputStream(source));
+        } catch (Exception e) {
+            throw new ConfigParseException("Could not parse configuration file: " + configFile, e);
+        }
+        try {
+            if (snapshotFile.getParent() != null) {
+                Files.createDirectories(snapshotFile.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(snapshotFile)) {
+                write(config.getRootNode(), source, output);
+            }
+        } catch (IOException e) {
+            throw new ConfigParseException("Could not write config snapshot: " + snapshotFile, e);
+        }
+    }
+
+    static void write(MapConfigNode root, byte[] source, OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(source.length);
+        data.writeInt(checksum(source));
+        new Writer(data).writeNode(root);
+        data.flush();
+    }
+
+    // returns empty for a corrupted or outdated snapshot, so the config file is parsed instead
+    static Optional<Config> read(URL url, URL sourceUrl) {
+        try (InputStream input = url.openStream()) {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+            if (!readHeader(data) || !matchesSource(data.readLong(), data.readInt(), sourceUrl)) {
+                return Optional.empty();
+            }
+            return Optional.of(readBody(data));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<Config> read(InputStream input, byte[] source) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (!readHeader(data) || data.readLong() != source.length || data.readInt() != checksum(source)) {
+            return Optional.empty();
+        }
+        return Optional.of(readBody(data));
+    }
+
+    private static boolean readHeader(DataInputStream data) throws IOException {
+        return data.readInt() == MAGIC && data.readByte() == VERSION;
+    }
+
+    private static boolean matchesSource(long size, int checksum, URL sourceUrl) throws IOException {
+        URLConnection connection = sourceUrl.openConnection();
+        try (InputStream source = connection.getInputStream()) {
+            // the size is known without reading for file and jar resources
+            long length = connection.getContentLengthLong();
+            if (length >= 0 && length != size) {
+                return false;
+            }
+            CheckedInputStream checked = new CheckedInputStream(source, new CRC32());
+            return checked.transferTo(OutputStream.nullOutputStream()) == size
+                    && (int) checked.getChecksum().getValue() == checksum;
+        }
+    }
+
+    private static Config readBody(DataInputStream data) throws IOException {
+        ConfigNode root = new Reader(data).readNode();
+        if (!(root instanceof MapConfigNode map)) {
+            throw new IOException("Expected config snapshot to start with a map");
+        }
+        if (data.read() != -1) {
+            throw new IOException("Expected end of config snapshot");
+        }
+        return Config.builder().setRootNode(map).build();
+    }
+
+    private static int checksum(byte[] source) {
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        return (int) crc.getValue();
+    }
+
+    private static final class Writer {
+        private final DataOutputStream data;
+        // repeated keys, like the keys of list items, are written once and referenced by index
+        private final Map<String, Integer> keys = new HashMap<>();
+
+        Writer(DataOutputStream data) {
+            this.data = data;
+        }
+
+        void writeNode(ConfigNode node) throws IOException {
+            if (node instanceof MapConfigNode map) {
+                data.writeByte(MAP);
+                data.writeInt(map.children().size());
+                for (Map.Entry<String, ConfigNode> entry : map.children().entrySet()) {
+                    writeKey(entry.getKey());
+                    writeNode(entry.getValue());
+                }
+            } else if (node instanceof ListConfigNode list) {
+                data.writeByte(LIST);
+                data.writeInt(list.children().size());
+                for (ConfigNode child : list.children()) {
+                    writeNode(child);
+                }
+            } else {
+                writeValue(node.unwrap());
+            }
+        }
+
+        private void writeKey(String key) throws IOException {
+            Integer index = keys.get(key);
+            if (index != null) {
+                data.writeInt(index);
+            } else {
+                data.writeInt(-1);
+                writeString(key);
+                keys.put(key, keys.size());
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value instanceof String text) {
+                data.writeByte(STRING);
+                writeString(text);
+            } else if (value instanceof Integer number) {
+                data.writeByte(INT);
+                data.writeInt(number);
+            } else if (value instanceof Long number) {
+                data.writeByte(LONG);
+                data.writeLong(number);
+            } else if (value instanceof Double number) {
+                data.writeByte(DOUBLE);
+                data.writeDouble(number);
+            } else if (value instanceof Boolean bool) {
+                data.writeByte(bool ? TRUE : FALSE);
+            } else if (value instanceof BigDecimal number) {
+                data.writeByte(BIG_DECIMAL);
+                writeString(number.toString());
+            } else if (value instanceof BigInteger number) {
+                data.writeByte(BIG_INTEGER);
+                writeString(number.toString());
+            } else if (value instanceof Float number) {
+                data.writeByte(FLOAT);
+                data.writeFloat(number);
+            } else if (value instanceof Short number) {
+                data.writeByte(SHORT);
+                data.writeShort(number);
+            } else if (value instanceof Byte number) {
+                data.writeByte(BYTE);
+                data.writeByte(number);
+            } else {
+                throw new IllegalArgumentException("Unsupported config snapshot value type: " + value.getClass().getName());
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+        private final DataInputStream data;
+        private final List<String> keys = new ArrayList<>();
+
+        Reader(DataInputStream data) {
+            this.data = data;
+        }
+
+        ConfigNode readNode() throws IOException {
+            int tag = data.readByte();
+            return switch (tag) {
+                case MAP -> readMap();
+                case LIST -> readList();
+                case STRING -> LeafConfigNode.of(readString());
+                case INT -> LeafConfigNode.of(data.readInt());
+                case LONG -> LeafConfigNode.of(data.readLong());
+                case DOUBLE -> LeafConfigNode.of(data.readDouble());
+                case TRUE -> LeafConfigNode.of(true);
+                case FALSE -> LeafConfigNode.of(false);
+                case BIG_DECIMAL -> LeafConfigNode.of(new BigDecimal(readString()));
+                case BIG_INTEGER -> LeafConfigNode.of(new BigInteger(readString()));
+                case FLOAT -> LeafConfigNode.of(data.readFloat());
+                case SHORT -> LeafConfigNode.of(data.readShort());
+                case BYTE -> LeafConfigNode.of(data.readByte());
+                default -> throw new IOException("Unrecognized config snapshot tag: " + tag);
+            };
+        }
+
+        private MapConfigNode readMap() throws IOException {
+            int size = readSize();
+            PersistentHashMap<String, ConfigNode> children = PersistentHashMap.empty();
+            for (int i = 0; i < size; ++i) {
+                String key = readKey();
+                children = children.plus(key, readNode());
+            }
+            return new MapConfigNode(children);
+        }
+
+        private ListConfigNode readList() throws IOException {
+            int size = readSize();
+            List<ConfigNode> children = new ArrayList<>();
+            for (int i = 0; i < size; ++i) {
+                children.add(readNode());
+            }
+            return new ListConfigNode(children);
+        }
+
+        private String readKey() throws IOException {
+            int index = data.readInt();
+            if (index >= keys.size()) {
+                throw new IOException("Unrecognized config snapshot key index: " + index);
+            }
+            if (index >= 0) {
+                return keys.get(index);
+            }
+            String key = readString();
+            keys.add(key);
+            return key;
+        }
+
+        private String readString() throws IOException {
+            int size = readSize();
+            // reads in chunks, so a corrupted size does not allocate a huge array
+            byte[] bytes = data.readNBytes(size);
+            if (bytes.length != size) {
+                throw new IOException("Unexpected end of config snapshot");
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        private int readSize() throws IOException {
+            int size = data.readInt();
+            if (size < 0) {
+                throw new IOException("Invalid config snapshot size: " + size);
+            }
+            return size;
+        }
+    }
+}
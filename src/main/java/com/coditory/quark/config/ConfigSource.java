@@ -23,9 +23,14 @@ enum ConfigSource {
         return configLoader.load(path);
     }
 
+    boolean exists(String path) {
+        return configLoader.exists(path);
+    }
 
     interface ConfigSourceLoader {
         Optional<Config> load(String path);
+
+        boolean exists(String path);
     }
 
     private static class ClasspathConfigLoader implements ConfigSourceLoader {
@@ -33,10 +38,17 @@ enum ConfigSource {
         public Optional<Config> load(String path) {
             ConfigFormat format = ConfigFormat.getFormatForFilePath(path);
             ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            URL url = classLoader.getResource(path);
+            URL url = ClasspathConfigIndex.getResource(classLoader, path);
             if (url == null) {
                 return Optional.empty();
             }
+            URL snapshotUrl = ClasspathConfigIndex.getResource(classLoader, path + "." + ConfigSnapshot.EXTENSION);
+            if (snapshotUrl != null) {
+                Optional<Config> snapshot = ConfigSnapshot.read(snapshotUrl, url);
+                if (snapshot.isPresent()) {
+                    return snapshot;
+                }
+            }
             try {
                 InputStream stream = url.openStream();
                 return Optional.of(format.parse(stream));
@@ -44,6 +56,12 @@ enum ConfigSource {
                 throw new ConfigParseException("Could not parse configuration from classpath file: " + path, e);
             }
         }
+
+        @Override
+        public boolean exists(String path) {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            return ClasspathConfigIndex.contains(classLoader, path);
+        }
     }
 
     private static class FileSystemConfigLoader implements ConfigSourceLoader {
@@ -62,5 +80,10 @@ enum ConfigSource {
                 throw new ConfigParseException("Could not parse configuration from file system: " + path, e);
             }
         }
+
+        @Override
+        public boolean exists(String path) {
+            return Files.isRegularFile(Path.of(path));
+        }
     }
 }
\ No newline at end of file
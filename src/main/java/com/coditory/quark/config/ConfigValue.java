@@ -1,5 +1,7 @@
 package com.coditory.quark.config;
 
+import com.coditory.quark.config.ConfigValueParser.TypeParser;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +18,13 @@ class ConfigValue {
         this.value = expectNonNull(value);
     }
 
-    @SuppressWarnings("unchecked")
     <T> T getAs(ConfigValueParser valueParser, Class<T> type) {
+        return getAs(valueParser.forType(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getAs(TypeParser<T> parser) {
+        Class<T> type = parser.getType();
         if (Config.class.equals(type)) {
             return (T) getAsConfig();
         }
@@ -27,7 +34,7 @@ class ConfigValue {
         if (Object.class.equals(type)) {
             return (T) value;
         }
-        return getOrParse(valueParser, type);
+        return getOrParse(parser, type);
     }
 
     @SuppressWarnings("unchecked")
@@ -36,13 +43,14 @@ class ConfigValue {
             throw new ConfigValueConversionException(List.class, path.toString(), value);
         }
         List<Object> rawValues = (List<Object>) value;
+        TypeParser<T> parser = valueParser.forType(type);
         List<ConfigValue> values = new ArrayList<>();
         for (int i = 0; i < rawValues.size(); ++i) {
             Object rawValue = rawValues.get(i);
             values.add(new ConfigValue(path.add(i), rawValue));
         }
         return values.stream()
-                .map(v -> v.getAs(valueParser, type))
+                .map(v -> v.getAs(parser))
                 .collect(toList());
     }
 
@@ -66,7 +74,7 @@ class ConfigValue {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getOrParse(ConfigValueParser parser, Class<T> type) {
+    private <T> T getOrParse(TypeParser<T> parser, Class<T> type) {
         if (value == null) {
             return null;
         }
@@ -74,19 +82,30 @@ class ConfigValue {
             return (T) value;
         }
         if (value instanceof String) {
-            return parse(parser, type, (String) value);
+            return parse(parser, (String) value);
+        }
+        if (value instanceof Number && NumberConverter.isSupported(type)) {
+            return convertNumber((Number) value, type);
         }
         if (value instanceof Number && Number.class.isAssignableFrom(type)) {
-            return parse(parser, type, String.valueOf(value));
+            return parse(parser, String.valueOf(value));
         }
         throw new ConfigValueConversionException(type, path.toString(), value);
     }
 
-    private <T> T parse(ConfigValueParser parser, Class<T> type, String value) {
+    private <T> T convertNumber(Number value, Class<T> type) {
         try {
-            return parser.parse(type, value);
-        } catch (RuntimeException e) {
+            return NumberConverter.convert(value, type);
+        } catch (ArithmeticException e) {
             throw new ConfigValueConversionException(type, path.toString(), value, e);
         }
     }
+
+    private <T> T parse(TypeParser<T> parser, String value) {
+        try {
+            return parser.parse(value);
+        } catch (RuntimeException e) {
+            throw new ConfigValueConversionException(parser.getType(), path.toString(), value, e);
+        }
+    }
 }
@@ -1,17 +1,21 @@
 package com.coditory.quark.config;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
@@ -35,6 +39,15 @@ class ConfigValueParser {
             ValueParser.forType(Currency.class, Currency::getInstance)
     );
 
+    // results of these types may be shared between reads
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            Config.class, String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigDecimal.class, BigInteger.class,
+            ZonedDateTime.class, OffsetDateTime.class, Instant.class, LocalDateTime.class, LocalDate.class, LocalTime.class,
+            Duration.class, Period.class, Locale.class, Currency.class
+    );
+
     private static final ConfigValueParser DEFAULT_VALUE_PARSER = new ConfigValueParser(DEFAULT_VALUE_PARSERS);
 
     static ConfigValueParser defaultConfigValueParser() {
@@ -42,6 +55,16 @@ class ConfigValueParser {
     }
 
     private final List<ValueParser> valueParsers;
+    // identifies type parsers of this instance, type parsers must not reference
+    // this instance, otherwise the class value would be pinned by every parsed type
+    private final Object identity = new Object();
+    // stored in the parsed classes, so user types and their class loaders are not pinned
+    private final ClassValue<TypeParser<?>> parsersByType = new ClassValue<>() {
+        @Override
+        protected TypeParser<?> computeValue(Class<?> type) {
+            return new TypeParser<>(identity, type, findCandidates(type));
+        }
+    };
 
     ConfigValueParser(List<ValueParser> valueParsers) {
         this.valueParsers = List.copyOf(valueParsers);
@@ -56,11 +79,27 @@ class ConfigValueParser {
     }
 
     <T> T parse(Class<T> type, String value) {
-        return valueParsers.stream()
-                .filter(p -> p.isApplicable(type, value))
-                .findFirst()
-                .orElseThrow(() -> new ConfigParseException("No parser for type: " + type))
-                .parse(type, value);
+        return forType(type).parse(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> TypeParser<T> forType(Class<T> type) {
+        return (TypeParser<T>) parsersByType.get(type);
+    }
+
+    private ValueParser[] findCandidates(Class<?> type) {
+        // typed parsers are resolved here, other parsers may depend on the value
+        // and are checked on every parse up to the first applicable typed parser
+        List<ValueParser> candidates = new ArrayList<>();
+        for (ValueParser parser : valueParsers) {
+            if (!(parser instanceof TypedValueParser<?> typedParser)) {
+                candidates.add(parser);
+            } else if (type.isAssignableFrom(typedParser.getType())) {
+                candidates.add(parser);
+                break;
+            }
+        }
+        return candidates.toArray(new ValueParser[0]);
     }
 
     @Override
@@ -75,4 +114,44 @@ class ConfigValueParser {
     public int hashCode() {
         return Objects.hash(valueParsers);
     }
+
+    static boolean isImmutableType(Class<?> type) {
+        return type.isEnum() || IMMUTABLE_TYPES.contains(type);
+    }
+
+    static final class TypeParser<T> {
+        private final Object owner;
+        private final Class<T> type;
+        // candidate parsers in registration order
+        private final ValueParser[] parsers;
+        private final boolean immutableResult;
+
+        private TypeParser(Object owner, Class<T> type, ValueParser[] parsers) {
+            this.owner = owner;
+            this.type = type;
+            this.parsers = parsers;
+            this.immutableResult = isImmutableType(type);
+        }
+
+        Class<T> getType() {
+            return type;
+        }
+
+        boolean isOwnedBy(ConfigValueParser valueParser) {
+            return owner == valueParser.identity;
+        }
+
+        boolean hasImmutableResult() {
+            return immutableResult;
+        }
+
+        T parse(String value) {
+            for (ValueParser parser : parsers) {
+                if (parser.isApplicable(type, value)) {
+                    return parser.parse(type, value);
+                }
+            }
+            throw new ConfigParseException("No parser for type: " + type);
+        }
+    }
 }
@@ -2,40 +2,136 @@ package com.coditory.quark.config;
 
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 class DurationParser {
-    private static final Pattern pattern = Pattern.compile("\\d+(\\.\\d+)? *(ms|s|m|h|d)");
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    private static final long NANOS_PER_DAY = 24 * NANOS_PER_HOUR;
+    // more fraction digits can not produce a whole number of nanos for any unit
+    private static final int MAX_FRACTION_DIGITS = 18;
 
-    static Duration parseDuration(String value) {
-        if (value.startsWith("-P") || value.startsWith("P")) {
+    static Duration parseDuration(CharSequence value) {
+        int length = value.length();
+        if (length > 0 && (value.charAt(0) == 'P' || (length > 1 && value.charAt(0) == '-' && value.charAt(1) == 'P'))) {
             return durationParse(value);
         }
-        Matcher matcher = pattern.matcher(value);
-        if (matcher.matches()) {
-            String unit = matcher.group(2).toUpperCase();
-            String number = value.substring(0, value.length() - unit.length()).trim();
-            float durationNumber = Float.parseFloat(number);
-            if (unit.equals("MS")) {
-                unit = "S";
-                durationNumber = durationNumber / 1000;
-            } else if (unit.equals("D")) {
-                unit = "H";
-                durationNumber = durationNumber * 24;
+        try {
+            return parseShortDuration(value);
+        } catch (ArithmeticException e) {
+            throw invalidDuration(value);
+        }
+    }
+
+    private static Duration parseShortDuration(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        long whole = 0;
+        while (i < length && isDigit(value.charAt(i))) {
+            whole = Math.addExact(Math.multiplyExact(whole, 10), value.charAt(i) - '0');
+            i++;
+        }
+        if (i == 0) {
+            throw invalidDuration(value);
+        }
+        long fraction = 0;
+        long fractionScale = 1;
+        if (i < length && value.charAt(i) == '.') {
+            int start = ++i;
+            while (i < length && isDigit(value.charAt(i))) {
+                if (i - start >= MAX_FRACTION_DIGITS) {
+                    throw invalidDuration(value);
+                }
+                fraction = fraction * 10 + (value.charAt(i) - '0');
+                fractionScale *= 10;
+                i++;
+            }
+            if (i == start) {
+                throw invalidDuration(value);
             }
-            return durationNumber % 1 == 0
-                    ? durationParse("PT" + (int) durationNumber + unit)
-                    : durationParse("PT" + durationNumber + unit);
         }
-        throw new ConfigParseException("Could not parse Duration value: " + value);
+        while (i < length && value.charAt(i) == ' ') {
+            i++;
+        }
+        long nanosPerUnit = unitNanos(value, i);
+        // fractions must be exact: nanos for s and ms, whole hours for d, whole units otherwise
+        long fractionNanos = exactFractionNanos(value, fraction, fractionScale, nanosPerUnit);
+        long granularity = nanosPerUnit == NANOS_PER_DAY
+                ? NANOS_PER_HOUR
+                : nanosPerUnit <= NANOS_PER_SECOND ? 1 : nanosPerUnit;
+        if (fractionNanos % granularity != 0) {
+            throw invalidDuration(value);
+        }
+        long seconds;
+        long nanos;
+        if (nanosPerUnit == NANOS_PER_MILLI) {
+            seconds = whole / 1000;
+            nanos = (whole % 1000) * NANOS_PER_MILLI;
+        } else {
+            seconds = Math.multiplyExact(whole, nanosPerUnit / NANOS_PER_SECOND);
+            nanos = 0;
+        }
+        seconds = Math.addExact(seconds, fractionNanos / NANOS_PER_SECOND);
+        return Duration.ofSeconds(seconds, nanos + fractionNanos % NANOS_PER_SECOND);
     }
 
-    private static Duration durationParse(String value) {
+    private static long unitNanos(CharSequence value, int start) {
+        int unitLength = value.length() - start;
+        if (unitLength == 1) {
+            switch (value.charAt(start)) {
+                case 's':
+                    return NANOS_PER_SECOND;
+                case 'm':
+                    return NANOS_PER_MINUTE;
+                case 'h':
+                    return NANOS_PER_HOUR;
+                case 'd':
+                    return NANOS_PER_DAY;
+                default:
+                    break;
+            }
+        } else if (unitLength == 2 && value.charAt(start) == 'm' && value.charAt(start + 1) == 's') {
+            return NANOS_PER_MILLI;
+        }
+        throw invalidDuration(value);
+    }
+
+    private static long exactFractionNanos(CharSequence value, long fraction, long fractionScale, long nanosPerUnit) {
+        if (fraction == 0) {
+            return 0;
+        }
+        // fraction * nanosPerUnit / fractionScale without overflow
+        long divisor = gcd(nanosPerUnit, fractionScale);
+        long scale = fractionScale / divisor;
+        if (fraction % scale != 0) {
+            throw invalidDuration(value);
+        }
+        return (fraction / scale) * (nanosPerUnit / divisor);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long tmp = a % b;
+            a = b;
+            b = tmp;
+        }
+        return a;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static Duration durationParse(CharSequence value) {
         try {
             return Duration.parse(value);
         } catch (DateTimeParseException e) {
-            throw new ConfigParseException("Could not parse Duration value: " + value);
+            throw invalidDuration(value);
         }
     }
+
+    private static ConfigParseException invalidDuration(CharSequence value) {
+        return new ConfigParseException("Could not parse Duration value: " + value);
+    }
 }
@@ -0,0 +1,102 @@
+package com.coditory.quark.config;
+
+import com.coditory.quark.config.ConfigNodeCreator.MapNodeBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds config nodes straight from a JSON token stream, without an intermediate map.
+ * Numbers are read with their exact type.
+ */
+final class JsonStreamReader {
+    private JsonStreamReader() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    static Config read(Reader input) throws IOException {
+        JsonReader reader = new JsonReader(input);
+        // same syntax as accepted by Gson.fromJson()
+        reader.setStrictness(Strictness.LENIENT);
+        JsonToken token;
+        try {
+            token = reader.peek();
+        } catch (EOFException e) {
+            return Config.empty();
+        }
+        ConfigNode root = readNode(reader, token);
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+            throw new JsonSyntaxException("JSON document was not fully consumed. Path: " + reader.getPath());
+        }
+        if (root == null) {
+            return Config.empty();
+        }
+        if (!(root instanceof MapConfigNode map)) {
+            throw new JsonSyntaxException("Expected JSON document to be an object");
+        }
+        return Config.builder()
+                .setRootNode(map)
+                .build();
+    }
+
+    // returns null for JSON null values
+    private static ConfigNode readNode(JsonReader reader, JsonToken token) throws IOException {
+        return switch (token) {
+            case BEGIN_OBJECT -> readObject(reader);
+            case BEGIN_ARRAY -> readArray(reader);
+            case STRING -> LeafConfigNode.of(reader.nextString());
+            case NUMBER -> LeafConfigNode.of(readNumber(reader));
+            case BOOLEAN -> LeafConfigNode.of(reader.nextBoolean());
+            case NULL -> {
+                reader.nextNull();
+                yield null;
+            }
+            default -> throw new JsonSyntaxException("Unexpected JSON token: " + token + ". Path: " + reader.getPath());
+        };
+    }
+
+    private static MapConfigNode readObject(JsonReader reader) throws IOException {
+        MapNodeBuilder builder = new MapNodeBuilder();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            if (builder.isDuplicate(key)) {
+                throw new JsonSyntaxException("Duplicate key: " + key + ". Path: " + reader.getPreviousPath());
+            }
+            builder.put(key, readNode(reader, reader.peek()));
+        }
+        reader.endObject();
+        return builder.build();
+    }
+
+    private static ListConfigNode readArray(JsonReader reader) throws IOException {
+        List<ConfigNode> children = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            ConfigNode child = readNode(reader, reader.peek());
+            if (child == null) {
+                throw new JsonSyntaxException("Expected non-null JSON array element. Path: " + reader.getPreviousPath());
+            }
+            children.add(child);
+        }
+        reader.endArray();
+        return new ListConfigNode(children);
+    }
+
+    static Number readNumber(JsonReader reader) throws IOException {
+        String value = reader.nextString();
+        try {
+            return NumberConverter.narrowest(value);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException("Could not parse number: " + value + ". Path: " + reader.getPreviousPath(), e);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.coditory.quark.config;
 
-import java.util.List;
-import java.util.Map;
+import com.coditory.quark.config.ConfigValueParser.TypeParser;
+
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -10,11 +11,22 @@ import static com.coditory.quark.config.ConfigNodeCreator.configNode;
 import static com.coditory.quark.config.ConfigNodeCreator.createNodeForValue;
 import static java.util.Objects.requireNonNull;
 
-class LeafConfigNode implements ConfigNode {
-    private final Object value;
-
-    LeafConfigNode(Object value) {
-        this.value = requireNonNull(value);
+abstract class LeafConfigNode implements ConfigNode {
+    static LeafConfigNode of(Object value) {
+        requireNonNull(value);
+        if (value instanceof Integer number) {
+            return new IntLeafConfigNode(number);
+        }
+        if (value instanceof Long number) {
+            return new LongLeafConfigNode(number);
+        }
+        if (value instanceof Double number) {
+            return new DoubleLeafConfigNode(number);
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? BooleanLeafConfigNode.TRUE : BooleanLeafConfigNode.FALSE;
+        }
+        return new ObjectLeafConfigNode(value);
     }
 
     @Override
@@ -29,18 +41,18 @@ class LeafConfigNode implements ConfigNode {
         return false;
     }
 
-    @Override
-    public Object unwrap() {
-        return value;
-    }
-
     @Override
     public ConfigNode addOrReplace(Path parentPath, Path subPath, Object value) {
         return subPath.isRoot()
-                ? new LeafConfigNode(value)
+                ? LeafConfigNode.of(value)
                 : configNode(subPath, value);
     }
 
+    @Override
+    public ConfigNode addOrReplace(Path parentPath, Path subPath, ConfigNode node) {
+        return configNode(subPath, node);
+    }
+
     @Override
     public ConfigNode remove(Path parentPath, Path subPath, ConfigRemoveOptions options) {
         return this;
@@ -53,11 +65,12 @@ class LeafConfigNode implements ConfigNode {
 
     @Override
     public ConfigNode filterLeaves(Path parentPath, ConfigEntryPredicate predicate, ConfigRemoveOptions options) {
-        return predicate.test(parentPath.toString(), value) ? this : null;
+        return predicate.test(parentPath.toString(), unwrap()) ? this : null;
     }
 
     @Override
     public ConfigNode mapLeaves(Path parentPath, ConfigEntryMapper mapper) {
+        Object value = unwrap();
         Object mapped = mapper.mapValue(parentPath.toString(), value);
         return Objects.equals(mapped, value)
                 ? this
@@ -66,12 +79,12 @@ class LeafConfigNode implements ConfigNode {
 
     @Override
     public boolean anyLeaf(Predicate<Object> predicate) {
-        return predicate.test(value);
+        return predicate.test(unwrap());
     }
 
     @Override
-    public List<Map.Entry<Path, Object>> entries() {
-        return List.of(Map.entry(Path.root(), value));
+    public void forEachLeaf(StringBuilder path, ConfigEntryVisitor visitor) {
+        visitor.visit(path.toString(), unwrap());
     }
 
     @Override
@@ -79,16 +92,181 @@ class LeafConfigNode implements ConfigNode {
         return this;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        LeafConfigNode that = (LeafConfigNode) o;
-        return value.equals(that.value);
+    <T> T getAs(Path path, TypeParser<T> parser) {
+        return new ConfigValue(path, unwrap()).getAs(parser);
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(value);
+    static final class ObjectLeafConfigNode extends LeafConfigNode {
+        private static final int MAX_CONVERTED_VALUES = 4;
+        private static final ConvertedValue[] NO_CONVERTED_VALUES = new ConvertedValue[0];
+
+        private final Object value;
+        private final int hash;
+        // copy on write, a lost update only means a repeated conversion
+        private volatile ConvertedValue[] convertedValues = NO_CONVERTED_VALUES;
+
+        private ObjectLeafConfigNode(Object value) {
+            this.value = value;
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public Object unwrap() {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <T> T getAs(Path path, TypeParser<T> parser) {
+            ConvertedValue[] current = convertedValues;
+            for (ConvertedValue converted : current) {
+                if (converted.parser == parser) {
+                    return (T) converted.value;
+                }
+            }
+            T result = super.getAs(path, parser);
+            // mutable results, e.g. from custom parsers, are not shared between reads
+            if (result != value && parser.hasImmutableResult() && current.length < MAX_CONVERTED_VALUES) {
+                ConvertedValue[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = new ConvertedValue(parser, result);
+                convertedValues = updated;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            return o instanceof ObjectLeafConfigNode that
+                    && hash == that.hash
+                    && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private record ConvertedValue(TypeParser<?> parser, Object value) {
+        }
+    }
+
+    static final class IntLeafConfigNode extends LeafConfigNode {
+        private final int value;
+        private final Integer boxed;
+
+        private IntLeafConfigNode(Integer value) {
+            this.value = value;
+            this.boxed = value;
+        }
+
+        int intValue() {
+            return value;
+        }
+
+        @Override
+        public Integer unwrap() {
+            return boxed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IntLeafConfigNode that && value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+    }
+
+    static final class LongLeafConfigNode extends LeafConfigNode {
+        private final long value;
+        private final Long boxed;
+
+        private LongLeafConfigNode(Long value) {
+            this.value = value;
+            this.boxed = value;
+        }
+
+        long longValue() {
+            return value;
+        }
+
+        @Override
+        public Long unwrap() {
+            return boxed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof LongLeafConfigNode that && value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+    }
+
+    static final class DoubleLeafConfigNode extends LeafConfigNode {
+        private final double value;
+        private final Double boxed;
+
+        private DoubleLeafConfigNode(Double value) {
+            this.value = value;
+            this.boxed = value;
+        }
+
+        double doubleValue() {
+            return value;
+        }
+
+        @Override
+        public Double unwrap() {
+            return boxed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            // same semantics as Double.equals
+            return o instanceof DoubleLeafConfigNode that
+                    && Double.doubleToLongBits(value) == Double.doubleToLongBits(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+    }
+
+    static final class BooleanLeafConfigNode extends LeafConfigNode {
+        private static final BooleanLeafConfigNode TRUE = new BooleanLeafConfigNode(true);
+        private static final BooleanLeafConfigNode FALSE = new BooleanLeafConfigNode(false);
+
+        private final boolean value;
+
+        private BooleanLeafConfigNode(boolean value) {
+            this.value = value;
+        }
+
+        boolean booleanValue() {
+            return value;
+        }
+
+        @Override
+        public Boolean unwrap() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BooleanLeafConfigNode that && value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(value);
+        }
     }
 }
@@ -2,24 +2,34 @@ package com.coditory.quark.config;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static com.coditory.quark.config.ConfigNodeCreator.configNode;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.unmodifiableList;
 
 class ListConfigNode implements ConfigNode {
-    private final List<ConfigNode> values;
+    private final PersistentVector<ConfigNode> values;
+    // racy single-check memo, the unwrapped list is immutable
+    private List<Object> unwrapped;
 
     ListConfigNode(List<ConfigNode> values) {
-        this.values = values;
+        this.values = PersistentVector.copyOf(values);
     }
 
     List<ConfigNode> children() {
-        return List.copyOf(values);
+        return values;
+    }
+
+    ListConfigNode mapChildren(UnaryOperator<ConfigNode> mapper) {
+        PersistentVector<ConfigNode> result = values;
+        for (int i = 0; i < values.size(); ++i) {
+            result = result.with(i, mapper.apply(values.get(i)));
+        }
+        return result != values
+                ? new ListConfigNode(result)
+                : this;
     }
 
     @Override
@@ -28,28 +38,31 @@ class ListConfigNode implements ConfigNode {
     }
 
     @Override
-    public Object unwrap() {
-        return values.stream()
-                .map(ConfigNode::unwrap)
-                .collect(toList());
+    public List<Object> unwrap() {
+        List<Object> result = unwrapped;
+        if (result == null) {
+            result = unwrapValues();
+            unwrapped = result;
+        }
+        return result;
     }
 
-    @Override
-    public List<Entry<Path, Object>> entries() {
-        List<Entry<Path, Object>> entries = new ArrayList<>(values.size());
-        for (int i = 0; i < values.size(); ++i) {
-            final int index = i;
-            values.get(i).entries().stream()
-                    .map(subEntry -> concatKeys(index, subEntry))
-                    .forEach(entries::add);
+    private List<Object> unwrapValues() {
+        List<Object> result = new ArrayList<>(values.size());
+        for (ConfigNode value : values) {
+            result.add(value.unwrap());
         }
-        return entries;
+        return unmodifiableList(result);
     }
 
-    private Entry<Path, Object> concatKeys(int childIndex, Entry<Path, Object> subEntry) {
-        Path key = Path.single(childIndex)
-                .add(subEntry.getKey());
-        return Map.entry(key, subEntry.getValue());
+    @Override
+    public void forEachLeaf(StringBuilder path, ConfigEntryVisitor visitor) {
+        int length = path.length();
+        for (int i = 0; i < values.size(); ++i) {
+            path.append('[').append(i).append(']');
+            values.get(i).forEachLeaf(path, visitor);
+            path.setLength(length);
+        }
     }
 
     @Override
@@ -103,6 +116,27 @@ class ListConfigNode implements ConfigNode {
         return addOrReplaceChild(element, child);
     }
 
+    @Override
+    public ConfigNode addOrReplace(Path parentPath, Path subPath, ConfigNode node) {
+        if (subPath.isRoot()) {
+            return node;
+        }
+        Path.PathElement element = subPath.getFirstElement();
+        if (element.isNamed()) {
+            return configNode(subPath, node);
+        }
+        if (element.getIndex() > values.size()) {
+            throw new MissingConfigValueException(
+                    "Could not add element on: " + parentPath.add(subPath) +
+                            ". Got a list on: " + parentPath + " of size: " + values.size()
+            );
+        }
+        ConfigNode child = getChild(element)
+                .map(c -> c.addOrReplace(parentPath.add(element), subPath.removeFirstElement(), node))
+                .orElseGet(() -> configNode(subPath.removeFirstElement(), node));
+        return addOrReplaceChild(element, child);
+    }
+
     @Override
     public ListConfigNode withDefaults(ConfigNode other) {
         return this;
@@ -124,15 +158,17 @@ class ListConfigNode implements ConfigNode {
         if (index >= values.size()) {
             return this;
         }
-        List<ConfigNode> result = new ArrayList<>(values);
-        result.remove(index);
+        PersistentVector<ConfigNode> result = null;
         if (subPath.length() > 1) {
             ConfigNode mappedChild = values.get(index)
                     .remove(parentPath.add(element), subPath.removeFirstElement(), options);
             if (mappedChild != null) {
-                result.add(index, mappedChild);
+                result = values.with(index, mappedChild);
             }
         }
+        if (result == null) {
+            result = values.minus(index);
+        }
         if (result.isEmpty() && options.removeEmptyLists()) {
             return null;
         }
@@ -141,11 +177,9 @@ class ListConfigNode implements ConfigNode {
 
     private ListConfigNode addOrReplaceChild(Path.PathElement element, ConfigNode node) {
         int index = element.getIndex();
-        List<ConfigNode> children = new ArrayList<>(this.values);
-        if (index < children.size()) {
-            children.remove(index);
-        }
-        children.add(index, node);
+        PersistentVector<ConfigNode> children = index < values.size()
+                ? values.with(index, node)
+                : values.plus(node);
         return new ListConfigNode(children);
     }
 
@@ -162,37 +196,40 @@ class ListConfigNode implements ConfigNode {
 
     @Override
     public ListConfigNode filterLeaves(Path parentPath, ConfigEntryPredicate predicate, ConfigRemoveOptions options) {
-        List<ConfigNode> result = new ArrayList<>(values.size());
-        boolean childMapped = false;
+        // copied lazily on the first modified child
+        List<ConfigNode> result = null;
         for (int i = 0; i < values.size(); ++i) {
             Path path = parentPath.add(i);
             ConfigNode child = values.get(i);
             ConfigNode mapped = child.filterLeaves(path, predicate, options);
-            if (mapped != null) {
+            if (result == null && mapped != child) {
+                result = new ArrayList<>(values.subList(0, i));
+            }
+            if (result != null && mapped != null) {
                 result.add(mapped);
             }
-            childMapped = childMapped || !Objects.equals(mapped, child);
         }
-        if (result.isEmpty() && options.removeEmptyLists()) {
+        List<ConfigNode> remaining = result != null ? result : values;
+        if (remaining.isEmpty() && options.removeEmptyLists()) {
             return null;
         }
-        return childMapped
+        return result != null
                 ? new ListConfigNode(result)
                 : this;
     }
 
     @Override
     public ListConfigNode mapLeaves(Path parentPath, ConfigEntryMapper mapper) {
-        List<ConfigNode> result = new ArrayList<>(values.size());
-        boolean childMapped = false;
+        PersistentVector<ConfigNode> result = values;
         for (int i = 0; i < values.size(); ++i) {
             Path path = parentPath.add(i);
             ConfigNode child = values.get(i);
             ConfigNode mapped = child.mapLeaves(path, mapper);
-            result.add(mapped);
-            childMapped = childMapped || !Objects.equals(mapped, child);
+            if (mapped != child) {
+                result = result.with(i, mapped);
+            }
         }
-        return childMapped
+        return result != values
                 ? new ListConfigNode(result)
                 : this;
     }
@@ -207,6 +244,6 @@ class ListConfigNode implements ConfigNode {
 
     @Override
     public int hashCode() {
-        return Objects.hash(values);
+        return values.hashCode();
     }
 }
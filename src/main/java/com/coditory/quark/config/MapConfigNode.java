@@ -1,31 +1,42 @@
 package com.coditory.quark.config;
 
-import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static com.coditory.quark.config.ConfigNodeCreator.configNode;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 class MapConfigNode implements ConfigNode {
-    private static final MapConfigNode EMPTY_ROOT = new MapConfigNode(Map.of());
+    private static final MapConfigNode EMPTY_ROOT = new MapConfigNode(PersistentHashMap.empty());
 
     static MapConfigNode emptyRoot() {
         return EMPTY_ROOT;
     }
 
-    private final Map<String, ConfigNode> values;
+    private final PersistentHashMap<String, ConfigNode> values;
+    // racy single-check memo, the unwrapped map is immutable
+    private Map<String, Object> unwrapped;
 
     MapConfigNode(Map<String, ConfigNode> values) {
-        this.values = requireNonNull(values);
+        this.values = PersistentHashMap.copyOf(requireNonNull(values));
+    }
+
+    Map<String, ConfigNode> children() {
+        return values;
+    }
+
+    MapConfigNode mapChildren(UnaryOperator<ConfigNode> mapper) {
+        PersistentHashMap<String, ConfigNode> result = values;
+        for (Entry<String, ConfigNode> entry : values.entrySet()) {
+            result = result.plus(entry.getKey(), mapper.apply(entry.getValue()));
+        }
+        return withValues(result);
     }
 
     @Override
@@ -34,19 +45,16 @@ class MapConfigNode implements ConfigNode {
     }
 
     @Override
-    public List<Entry<Path, Object>> entries() {
-        return values.entrySet().stream()
-                .flatMap(entry -> entry.getValue()
-                        .entries().stream()
-                        .map(subEntry -> concatKeys(entry.getKey(), subEntry))
-                )
-                .collect(toList());
-    }
-
-    private Entry<Path, Object> concatKeys(String childKey, Entry<Path, Object> subEntry) {
-        Path key = Path.single(childKey)
-                .add(subEntry.getKey());
-        return Map.entry(key, subEntry.getValue());
+    public void forEachLeaf(StringBuilder path, ConfigEntryVisitor visitor) {
+        int length = path.length();
+        values.forEach((key, child) -> {
+            if (length > 0) {
+                path.append('.');
+            }
+            path.append(key);
+            child.forEachLeaf(path, visitor);
+            path.setLength(length);
+        });
     }
 
     @Override
@@ -60,6 +68,15 @@ class MapConfigNode implements ConfigNode {
 
     @Override
     public Map<String, Object> unwrap() {
+        Map<String, Object> result = unwrapped;
+        if (result == null) {
+            result = unwrapValues();
+            unwrapped = result;
+        }
+        return result;
+    }
+
+    private Map<String, Object> unwrapValues() {
         if (values.isEmpty()) {
             return Map.of();
         }
@@ -70,22 +87,20 @@ class MapConfigNode implements ConfigNode {
 
     @Override
     public MapConfigNode filterLeaves(Path parentPath, ConfigEntryPredicate predicate, ConfigRemoveOptions options) {
-        HashMap<String, ConfigNode> result = new HashMap<>(values.size());
-        boolean childModified = false;
+        PersistentHashMap<String, ConfigNode> result = values;
         for (Entry<String, ConfigNode> entry : values.entrySet()) {
             Path path = parentPath.add(entry.getKey());
             ConfigNode mapped = entry.getValue().filterLeaves(path, predicate, options);
-            if (mapped != null) {
-                result.put(entry.getKey(), mapped);
+            if (mapped == null) {
+                result = result.minus(entry.getKey());
+            } else if (mapped != entry.getValue()) {
+                result = result.plus(entry.getKey(), mapped);
             }
-            childModified = childModified || !Objects.equals(mapped, entry.getValue());
         }
         if (result.isEmpty() && options.removeEmptyObjects()) {
             return null;
         }
-        return childModified
-                ? new MapConfigNode(result)
-                : this;
+        return withValues(result);
     }
 
     @Override
@@ -100,17 +115,15 @@ class MapConfigNode implements ConfigNode {
 
     @Override
     public MapConfigNode mapLeaves(Path parentPath, ConfigEntryMapper mapper) {
-        HashMap<String, ConfigNode> result = new HashMap<>(values.size());
-        boolean childModified = false;
+        PersistentHashMap<String, ConfigNode> result = values;
         for (Entry<String, ConfigNode> entry : values.entrySet()) {
             Path path = parentPath.add(entry.getKey());
             ConfigNode mapped = entry.getValue().mapLeaves(path, mapper);
-            result.put(entry.getKey(), mapped);
-            childModified = childModified || !Objects.equals(mapped, entry.getValue());
+            if (mapped != entry.getValue()) {
+                result = result.plus(entry.getKey(), mapped);
+            }
         }
-        return childModified
-                ? new MapConfigNode(result)
-                : this;
+        return withValues(result);
     }
 
     @Override
@@ -149,6 +162,21 @@ class MapConfigNode implements ConfigNode {
         return addOrReplaceChild(element, child);
     }
 
+    @Override
+    public ConfigNode addOrReplace(Path parentPath, Path subPath, ConfigNode node) {
+        if (subPath.isRoot()) {
+            return node;
+        }
+        Path.PathElement element = subPath.getFirstElement();
+        if (element.isIndexed()) {
+            return configNode(subPath, node);
+        }
+        ConfigNode child = getChild(element)
+                .map(c -> c.addOrReplace(parentPath.add(element), subPath.removeFirstElement(), node))
+                .orElseGet(() -> configNode(subPath.removeFirstElement(), node));
+        return addOrReplaceChild(element, child);
+    }
+
     @Override
     public MapConfigNode remove(Path parentPath, Path subPath, ConfigRemoveOptions options) {
         if (subPath.isRoot() || !subPath.getFirstElement().isNamed()) {
@@ -156,16 +184,16 @@ class MapConfigNode implements ConfigNode {
         }
         Path.PathElement element = subPath.getFirstElement();
         String name = element.name();
-        if (!values.containsKey(name)) {
+        ConfigNode child = values.get(name);
+        if (child == null) {
             return this;
         }
-        Map<String, ConfigNode> result = new HashMap<>(values);
-        result.remove(name);
+        PersistentHashMap<String, ConfigNode> result = values.minus(name);
         if (subPath.length() > 1) {
-            ConfigNode mappedChild = values.get(name)
+            ConfigNode mappedChild = child
                     .remove(parentPath.add(element), subPath.removeFirstElement(), options);
             if (mappedChild != null) {
-                result.put(name, mappedChild);
+                result = result.plus(name, mappedChild);
             }
         }
         if (result.isEmpty() && options.removeEmptyObjects()) {
@@ -180,28 +208,38 @@ class MapConfigNode implements ConfigNode {
             return this;
         }
         MapConfigNode otherMapNode = (MapConfigNode) other;
-        Map<String, ConfigNode> result = new HashMap<>();
-        for (Entry<String, ConfigNode> entry : this.values.entrySet()) {
-            ConfigNode otherChildNode = otherMapNode.values.get(entry.getKey());
-            ConfigNode mergedChildNode = entry.getValue().withDefaults(otherChildNode);
-            result.put(entry.getKey(), mergedChildNode);
-        }
-        for (Entry<String, ConfigNode> entry : otherMapNode.values.entrySet()) {
-            if (!result.containsKey(entry.getKey())) {
-                result.put(entry.getKey(), entry.getValue());
+        if (otherMapNode == this) {
+            return this;
+        }
+        // iterate over the smaller map and update the larger one
+        PersistentHashMap<String, ConfigNode> result;
+        if (values.size() <= otherMapNode.values.size()) {
+            result = otherMapNode.values;
+            for (Entry<String, ConfigNode> entry : values.entrySet()) {
+                ConfigNode otherChildNode = otherMapNode.values.get(entry.getKey());
+                result = result.plus(entry.getKey(), entry.getValue().withDefaults(otherChildNode));
+            }
+        } else {
+            result = values;
+            for (Entry<String, ConfigNode> entry : otherMapNode.values.entrySet()) {
+                ConfigNode childNode = values.get(entry.getKey());
+                ConfigNode mergedChildNode = childNode != null
+                        ? childNode.withDefaults(entry.getValue())
+                        : entry.getValue();
+                result = result.plus(entry.getKey(), mergedChildNode);
             }
         }
-        return new MapConfigNode(result);
+        return withValues(result);
     }
 
     private MapConfigNode addOrReplaceChild(Path.PathElement element, ConfigNode node) {
-        ConfigNode current = this.values.get(element.name());
-        if (Objects.equals(current, node)) {
-            return this;
-        }
-        HashMap<String, ConfigNode> children = new HashMap<>(this.values);
-        children.put(element.name(), node);
-        return new MapConfigNode(children);
+        return withValues(values.plus(element.name(), node));
+    }
+
+    private MapConfigNode withValues(PersistentHashMap<String, ConfigNode> values) {
+        return values == this.values
+                ? this
+                : new MapConfigNode(values);
     }
 
     private Optional<ConfigNode> getChild(Path.PathElement element) {
@@ -222,6 +260,6 @@ class MapConfigNode implements ConfigNode {
 
     @Override
     public int hashCode() {
-        return Objects.hash(values);
+        return values.hashCode();
     }
 }
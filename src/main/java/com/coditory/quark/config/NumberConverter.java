@@ -0,0 +1,246 @@
+package com.coditory.quark.config;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Converts between JDK number types without a string round-trip.
+ * Integral targets accept only values that are exact and within range.
+ * Floating point targets accept only values they represent without loss,
+ * that is, values equal to the shortest decimal form of the converted result.
+ * Floats and doubles are compared by their shortest decimal form, so {@code 0.1f} converts to {@code 0.1d}.
+ */
+final class NumberConverter {
+    private NumberConverter() {
+        throw new IllegalStateException("Do not instantiate utility class");
+    }
+
+    static boolean isSupported(Class<?> type) {
+        return type == Integer.class
+                || type == Long.class
+                || type == Double.class
+                || type == Float.class
+                || type == Short.class
+                || type == Byte.class
+                || type == BigDecimal.class
+                || type == BigInteger.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T convert(Number value, Class<T> type) {
+        if (type == Integer.class) {
+            return (T) Integer.valueOf(Math.toIntExact(toLong(value)));
+        }
+        if (type == Long.class) {
+            return (T) Long.valueOf(toLong(value));
+        }
+        if (type == Double.class) {
+            return (T) Double.valueOf(toDouble(value));
+        }
+        if (type == Float.class) {
+            return (T) Float.valueOf(toFloat(value));
+        }
+        if (type == Short.class) {
+            return (T) Short.valueOf(toShort(value));
+        }
+        if (type == Byte.class) {
+            return (T) Byte.valueOf(toByte(value));
+        }
+        if (type == BigDecimal.class) {
+            return (T) toBigDecimal(value);
+        }
+        if (type == BigInteger.class) {
+            return (T) toBigInteger(value);
+        }
+        throw new IllegalArgumentException("Unsupported number type: " + type.getName());
+    }
+
+    /**
+     * Parses a decimal number literal into an Integer, a Long, a Double or a BigDecimal,
+     * whichever is the narrowest type holding the exact value.
+     */
+    static Number narrowest(String value) {
+        if (isIntegral(value)) {
+            int digits = value.length() - (value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0);
+            if (digits < 10) {
+                return Integer.parseInt(value);
+            }
+            if (digits < 19) {
+                long result = Long.parseLong(value);
+                return result == (int) result ? Integer.valueOf((int) result) : Long.valueOf(result);
+            }
+            BigInteger result = new BigInteger(value);
+            return result.bitLength() < 64 ? Long.valueOf(result.longValue()) : new BigDecimal(result);
+        }
+        return decimal(value);
+    }
+
+    /**
+     * Parses a fractional number literal into a Double when the literal is the shortest
+     * decimal form of that double, and into a BigDecimal otherwise.
+     */
+    static Number decimal(String value) {
+        if (hasFewDigits(value)) {
+            // literals with at most 15 significant digits always round trip through a double
+            return Double.parseDouble(value);
+        }
+        BigDecimal decimal = new BigDecimal(value);
+        double result = decimal.doubleValue();
+        return Double.isFinite(result) && BigDecimal.valueOf(result).compareTo(decimal) == 0
+                ? Double.valueOf(result)
+                : decimal;
+    }
+
+    private static boolean hasFewDigits(String value) {
+        int digits = 0;
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 15) {
+                    return false;
+                }
+            } else if (c != '.' && (i > 0 || (c != '-' && c != '+'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIntegral(String value) {
+        int length = value.length();
+        int start = length > 1 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        for (int i = start; i < length; ++i) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toLong(Number value) {
+        if (isIntegralPrimitive(value)) {
+            return value.longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = value.doubleValue();
+            long result = (long) number;
+            // the cast saturates at long bounds, so 2^63 has to be rejected explicitly
+            if (result != number || number == 0x1p63) {
+                throw new ArithmeticException("Not an exact long value: " + value);
+            }
+            return result;
+        }
+        if (value instanceof BigInteger number) {
+            return number.longValueExact();
+        }
+        return toBigDecimal(value).longValueExact();
+    }
+
+    private static double toDouble(Number value) {
+        if (value instanceof Double number) {
+            return number;
+        }
+        if (isNotFinite(value)) {
+            return value.doubleValue();
+        }
+        if (isIntegralPrimitive(value)) {
+            double result = value.longValue();
+            // the cast saturates at long bounds, so 2^63 has to be rejected explicitly
+            if ((long) result != value.longValue() || result == 0x1p63) {
+                throw new ArithmeticException("Not an exact double value: " + value);
+            }
+            return result;
+        }
+        BigDecimal decimal = toBigDecimal(value);
+        double result = decimal.doubleValue();
+        if (Double.isInfinite(result)) {
+            throw new ArithmeticException("Value out of double range: " + value);
+        }
+        if (BigDecimal.valueOf(result).compareTo(decimal) != 0) {
+            throw new ArithmeticException("Not an exact double value: " + value);
+        }
+        return result;
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal number) {
+            return number;
+        }
+        if (value instanceof BigInteger number) {
+            return new BigDecimal(number);
+        }
+        if (isIntegralPrimitive(value)) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        if (value instanceof Float) {
+            // shortest decimal representation of the float, not of its widened double
+            return new BigDecimal(value.toString());
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private static float toFloat(Number value) {
+        if (value instanceof Float number) {
+            return number;
+        }
+        if (isNotFinite(value)) {
+            return value.floatValue();
+        }
+        if (isIntegralPrimitive(value)) {
+            float result = value.longValue();
+            // the cast saturates at long bounds, so 2^63 has to be rejected explicitly
+            if ((long) result != value.longValue() || result == 0x1p63f) {
+                throw new ArithmeticException("Not an exact float value: " + value);
+            }
+            return result;
+        }
+        BigDecimal decimal = toBigDecimal(value);
+        float result = decimal.floatValue();
+        if (Float.isInfinite(result)) {
+            throw new ArithmeticException("Value out of float range: " + value);
+        }
+        if (new BigDecimal(Float.toString(result)).compareTo(decimal) != 0) {
+            throw new ArithmeticException("Not an exact float value: " + value);
+        }
+        return result;
+    }
+
+    private static short toShort(Number value) {
+        long result = toLong(value);
+        if (result != (short) result) {
+            throw new ArithmeticException("Value out of short range: " + value);
+        }
+        return (short) result;
+    }
+
+    private static byte toByte(Number value) {
+        long result = toLong(value);
+        if (result != (byte) result) {
+            throw new ArithmeticException("Value out of byte range: " + value);
+        }
+        return (byte) result;
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger number) {
+            return number;
+        }
+        return toBigDecimal(value).toBigIntegerExact();
+    }
+
+    private static boolean isIntegralPrimitive(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isNotFinite(Number value) {
+        return (value instanceof Double || value instanceof Float)
+                && !Double.isFinite(value.doubleValue());
+    }
+}
@@ -1,16 +1,13 @@
 package com.coditory.quark.config;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 import static com.coditory.quark.config.Preconditions.expectNonBlank;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 class Path {
-    private static final Path ROOT = new Path(List.of());
+    private static final Path ROOT = new Path(new PathElement[0], 0, 0);
 
     public static Path parseAbsolute(String input) {
         Path path = Path.parse(input);
@@ -27,20 +24,20 @@ class Path {
     }
 
     static Path single(int index) {
-        return of(List.of(new IndexedPathElement(index)));
+        return ROOT.add(new IndexedPathElement(index));
     }
 
     static Path single(String name) {
-        return of(List.of(new NamedPathElement(name)));
+        return ROOT.add(new NamedPathElement(name));
     }
 
     private static Path of(List<PathElement> chunks) {
         return chunks.isEmpty()
                 ? ROOT
-                : new Path(chunks);
+                : new Path(chunks.toArray(new PathElement[0]), 0, chunks.size());
     }
 
-    static Path parse(String path) {
+    static Path parse(CharSequence path) {
         try {
             return parseOrThrow(path);
         } catch (RuntimeException e) {
@@ -48,114 +45,180 @@ class Path {
         }
     }
 
-    private static Path parseOrThrow(String path) {
-        if (path.isEmpty()) return Path.root();
-        String[] chunks = path.split("\\.");
-        List<PathElement> result = new ArrayList<>(chunks.length);
-        for (String chunk : chunks) {
-            int index = chunk.indexOf('[');
-            if (index == 0) {
-                matchIndexes(path, chunk)
-                        .forEach(v -> result.add(new IndexedPathElement(v)));
-            } else if (index > 0) {
-                String name = chunk.substring(0, index);
-                result.add(new NamedPathElement(name));
-                matchIndexes(path, chunk.substring(index))
-                        .forEach(v -> result.add(new IndexedPathElement(v)));
-            } else {
-                result.add(new NamedPathElement(chunk));
+    private static Path parseOrThrow(CharSequence path) {
+        // trailing dots are ignored, as they used to be dropped by String.split()
+        int length = path.length();
+        while (length > 0 && path.charAt(length - 1) == '.') {
+            length--;
+        }
+        if (length == 0) return Path.root();
+        List<PathElement> result = new ArrayList<>();
+        int i = 0;
+        while (i < length) {
+            if (path.charAt(i) != '[') {
+                int start = i;
+                while (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                result.add(new NamedPathElement(path.subSequence(start, i).toString()));
+            }
+            while (i < length && path.charAt(i) == '[') {
+                i = parseIndex(path, i + 1, length, result);
+            }
+            if (i < length) {
+                if (path.charAt(i) != '.') {
+                    throw new InvalidConfigPathException("Unexpected character at position " + i);
+                }
+                i++;
             }
         }
         return Path.of(result);
     }
 
-    private static List<Integer> matchIndexes(String fullPath, String chunk) {
-        if (chunk.length() < 3 || !chunk.startsWith("[") || !chunk.endsWith("]")) {
-            throw new IllegalArgumentException("Could not parse path: " + fullPath +
-                    ". Problematic chunk: " + chunk);
+    private static int parseIndex(CharSequence path, int start, int length, List<PathElement> result) {
+        int index = 0;
+        int i = start;
+        while (i < length && path.charAt(i) != ']') {
+            int digit = path.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new InvalidConfigPathException("Could not parse index value at position " + i);
+            }
+            if (index > (Integer.MAX_VALUE - digit) / 10) {
+                throw new InvalidConfigPathException("Index value too large at position " + start);
+            }
+            index = index * 10 + digit;
+            i++;
         }
-        return Arrays.stream(chunk.substring(1, chunk.length() - 1).split("]\\["))
-                .map(index -> parseIndex(fullPath, index))
-                .collect(toList());
-    }
-
-    private static Integer parseIndex(String fullPath, String index) {
-        try {
-            return Integer.parseInt(index);
-        } catch (NumberFormatException e) {
-            throw new InvalidConfigPathException("Could not parse index value from path: " + fullPath);
+        if (i == start || i == length) {
+            throw new InvalidConfigPathException("Could not parse index value at position " + start);
         }
-    }
-
-    private final String path;
-    private final List<PathElement> elements;
-
-    private Path(List<PathElement> elements) {
-        this.elements = List.copyOf(elements);
-        StringBuilder builder = new StringBuilder();
-        elements.forEach(c -> c.append(builder));
-        this.path = builder.toString();
+        result.add(new IndexedPathElement(index));
+        return i + 1;
+    }
+
+    // Elements are either a view over a shared array (elements[offset, offset + length))
+    // or, for appended paths, a parent path followed by the last element.
+    // Both forms are immutable, so views and parents are shared between paths.
+    private final PathElement[] elements;
+    private final int offset;
+    private final int length;
+    private final Path parent;
+    private final PathElement last;
+    private Path flattened;
+    private String path;
+    private int hash;
+
+    private Path(PathElement[] elements, int offset, int length) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+        this.parent = null;
+        this.last = null;
+    }
+
+    private Path(Path parent, PathElement last) {
+        this.elements = null;
+        this.offset = 0;
+        this.length = parent.length + 1;
+        this.parent = parent;
+        this.last = requireNonNull(last);
     }
 
     boolean isRoot() {
-        return elements.isEmpty();
+        return length == 0;
     }
 
     PathElement getElement(int index) {
-        return elements.get(index);
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        if (parent != null && index == length - 1) {
+            return last;
+        }
+        Path flat = flatten();
+        return flat.elements[flat.offset + index];
     }
 
     Path withChild(String name) {
-        List<PathElement> chunks = new ArrayList<>(this.elements);
-        chunks.add(new NamedPathElement(name));
-        return Path.of(chunks);
+        return add(new NamedPathElement(name));
     }
 
     Path withIndexedChild(int index) {
-        List<PathElement> chunks = new ArrayList<>(this.elements);
-        chunks.add(new IndexedPathElement(index));
-        return Path.of(chunks);
+        return add(new IndexedPathElement(index));
     }
 
     int length() {
-        return elements.size();
+        return length;
     }
 
     @Override
     public String toString() {
-        return path;
+        String result = path;
+        if (result == null) {
+            StringBuilder builder = new StringBuilder();
+            if (parent != null) {
+                builder.append(parent);
+                last.append(builder);
+            } else {
+                for (int i = offset; i < offset + length; ++i) {
+                    elements[i].append(builder);
+                }
+            }
+            result = builder.toString();
+            path = result;
+        }
+        return result;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        Path path1 = (Path) o;
-        return Objects.equals(path, path1.path);
+        Path other = (Path) o;
+        if (length != other.length || hashCode() != other.hashCode()) {
+            return false;
+        }
+        return startsWith(other);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(path);
+        int result = hash;
+        if (result == 0) {
+            if (parent != null) {
+                result = 31 * parent.hashCode() + last.hashCode();
+            } else {
+                result = 1;
+                for (int i = offset; i < offset + length; ++i) {
+                    result = 31 * result + elements[i].hashCode();
+                }
+            }
+            hash = result;
+        }
+        return result;
     }
 
     Path subPath(int index) {
-        return Path.of(elements.subList(0, index + 1));
+        return prefix(index + 1);
     }
 
     PathElement getFirstElement() {
-        return elements.getFirst();
+        return getElement(0);
     }
 
     List<String> getPropertyNames() {
-        return elements.stream()
-                .map(PathElement::name)
-                .filter(Objects::nonNull)
-                .collect(toList());
+        List<String> names = new ArrayList<>(length);
+        for (int i = 0; i < length; ++i) {
+            String name = getElement(i).name();
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
     }
 
     Path removeFirstElement() {
-        return Path.of(elements.subList(1, length()));
+        return suffix(1);
     }
 
     Path removePrefix(Path other) {
@@ -163,26 +226,27 @@ class Path {
             throw new ConfigException("Could not remove path prefix. Paths do not match. " +
                     "Original: " + this + ". Prefix: " + other);
         }
-        if (this.equals(other)) {
-            return Path.root();
-        }
-        return Path.of(elements.subList(other.length(), length()));
+        return suffix(other.length);
     }
 
     Path removeLastElement() {
-        return Path.of(elements.subList(0, length() - 1));
+        return parent != null
+                ? parent
+                : prefix(length - 1);
     }
 
     boolean startsWith(Path other) {
         requireNonNull(other);
-        if (this.length() < other.length()) {
+        if (this.length < other.length) {
             return false;
         }
-        if (this.equals(other)) {
+        if (this == other) {
             return true;
         }
-        for (int i = 0; i < other.length(); ++i) {
-            if (!getElement(i).equals(other.getElement(i))) {
+        Path flat = flatten();
+        Path otherFlat = other.flatten();
+        for (int i = 0; i < other.length; ++i) {
+            if (!flat.elements[flat.offset + i].equals(otherFlat.elements[otherFlat.offset + i])) {
                 return false;
             }
         }
@@ -198,20 +262,68 @@ class Path {
     }
 
     Path add(Path subPath) {
-        List<PathElement> elements = new ArrayList<>();
-        elements.addAll(this.elements);
-        elements.addAll(subPath.elements);
-        return Path.of(elements);
+        if (subPath.isRoot()) {
+            return this;
+        }
+        if (this.isRoot()) {
+            return subPath;
+        }
+        Path flat = flatten();
+        Path subFlat = subPath.flatten();
+        PathElement[] result = new PathElement[length + subPath.length];
+        System.arraycopy(flat.elements, flat.offset, result, 0, length);
+        System.arraycopy(subFlat.elements, subFlat.offset, result, length, subPath.length);
+        return new Path(result, 0, result.length);
     }
 
     Path add(PathElement element) {
-        List<PathElement> elements = new ArrayList<>(this.elements);
-        elements.add(element);
-        return Path.of(elements);
+        return new Path(this, element);
     }
 
     PathElement getLastElement() {
-        return elements.get(length() - 1);
+        return getElement(length - 1);
+    }
+
+    private Path prefix(int length) {
+        if (length == this.length) {
+            return this;
+        }
+        if (length == 0) {
+            return ROOT;
+        }
+        Path flat = flatten();
+        return new Path(flat.elements, flat.offset, length);
+    }
+
+    private Path suffix(int start) {
+        if (start == 0) {
+            return this;
+        }
+        if (start == length) {
+            return ROOT;
+        }
+        Path flat = flatten();
+        return new Path(flat.elements, flat.offset + start, length - start);
+    }
+
+    private Path flatten() {
+        if (parent == null) {
+            return this;
+        }
+        // flattened path is published through its final fields, so the benign race is safe
+        Path result = flattened;
+        if (result == null) {
+            PathElement[] array = new PathElement[length];
+            Path current = this;
+            while (current.parent != null) {
+                array[current.length - 1] = current.last;
+                current = current.parent;
+            }
+            System.arraycopy(current.elements, current.offset, array, 0, current.length);
+            result = new Path(array, 0, length);
+            flattened = result;
+        }
+        return result;
     }
 
     interface PathElement {
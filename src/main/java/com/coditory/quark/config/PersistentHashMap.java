@@ -0,0 +1,419 @@
+package com.coditory.quark.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable hash array mapped trie.
+ * Updates return a new map that shares all unchanged nodes with the original one.
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+    private static final PersistentHashMap<Object, Object> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0, 0);
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap) {
+            return (PersistentHashMap<K, V>) map;
+        }
+        PersistentHashMap<K, V> result = empty();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private final Node root;
+    private final int size;
+    // sum of entry hash codes, maintained on every update as defined by Map.hashCode()
+    private final int hash;
+
+    private PersistentHashMap(Node root, int size, int hash) {
+        this.root = root;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null || size == 0) {
+            return null;
+        }
+        return (V) root.find(0, hash(key), key);
+    }
+
+    PersistentHashMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        int hash = hash(key);
+        Object current = root.find(0, hash, key);
+        if (current == value) {
+            return this;
+        }
+        Node updated = root.assoc(0, hash, key, value);
+        int updatedHash = this.hash + entryHash(key, value);
+        return current == null
+                ? new PersistentHashMap<>(updated, size + 1, updatedHash)
+                : new PersistentHashMap<>(updated, size, updatedHash - entryHash(key, current));
+    }
+
+    PersistentHashMap<K, V> minus(Object key) {
+        if (key == null || size == 0) {
+            return this;
+        }
+        int hash = hash(key);
+        Object current = root.find(0, hash, key);
+        if (current == null) {
+            return this;
+        }
+        Node updated = root.without(0, hash, key);
+        return updated == null
+                ? empty()
+                : new PersistentHashMap<>(updated, size - 1, this.hash - entryHash(key, current));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof PersistentHashMap<?, ?> other && (other.size != size || other.hash != hash)) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int entryHash(Object key, Object value) {
+        return key.hashCode() ^ value.hashCode();
+    }
+
+    private static int bitPosition(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+        }
+        return BitmapNode.EMPTY
+                .assoc(shift, hash1, key1, value1)
+                .assoc(shift, hash2, key2, value2);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int index, Object value) {
+        Object[] result = array.clone();
+        result[index] = value;
+        return result;
+    }
+
+    private static Object[] removePair(Object[] array, int pairIndex) {
+        Object[] result = new Object[array.length - 2];
+        System.arraycopy(array, 0, result, 0, 2 * pairIndex);
+        System.arraycopy(array, 2 * (pairIndex + 1), result, 2 * pairIndex, result.length - 2 * pairIndex);
+        return result;
+    }
+
+    private interface Node {
+        Object find(int shift, int hash, Object key);
+
+        Node assoc(int shift, int hash, Object key, Object value);
+
+        Node without(int shift, int hash, Object key);
+
+        void forEach(BiConsumer<Object, Object> action);
+
+        int slots();
+
+        // null key marks a slot holding a sub node
+        Object keyAt(int slot);
+
+        Object valueAt(int slot);
+    }
+
+    // array holds [key, value] pairs, a null key means that value is a sub node
+    private record BitmapNode(int bitmap, Object[] array) implements Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = index(bit);
+            Object k = array[2 * index];
+            Object v = array[2 * index + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? v : null;
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object value) {
+            int bit = bitPosition(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) != 0) {
+                Object k = array[2 * index];
+                Object v = array[2 * index + 1];
+                if (k == null) {
+                    Node node = ((Node) v).assoc(shift + BITS, hash, key, value);
+                    return node == v ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, node));
+                }
+                if (key.equals(k)) {
+                    return v == value ? this : new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, value));
+                }
+                Object[] result = array.clone();
+                result[2 * index] = null;
+                result[2 * index + 1] = createNode(shift + BITS, k, v, hash, key, value);
+                return new BitmapNode(bitmap, result);
+            }
+            int count = Integer.bitCount(bitmap);
+            Object[] result = new Object[2 * (count + 1)];
+            System.arraycopy(array, 0, result, 0, 2 * index);
+            result[2 * index] = key;
+            result[2 * index + 1] = value;
+            System.arraycopy(array, 2 * index, result, 2 * (index + 1), 2 * (count - index));
+            return new BitmapNode(bitmap | bit, result);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int bit = bitPosition(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object k = array[2 * index];
+            Object v = array[2 * index + 1];
+            if (k == null) {
+                Node node = ((Node) v).without(shift + BITS, hash, key);
+                if (node == v) {
+                    return this;
+                }
+                if (node != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, node));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            return bitmap == bit
+                    ? null
+                    : new BitmapNode(bitmap ^ bit, removePair(array, index));
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+
+        @Override
+        public int slots() {
+            return array.length / 2;
+        }
+
+        @Override
+        public Object keyAt(int slot) {
+            return array[2 * slot];
+        }
+
+        @Override
+        public Object valueAt(int slot) {
+            return array[2 * slot + 1];
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    private record CollisionNode(int hash, Object[] array) implements Node {
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int index = indexOf(key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, Object value) {
+            if (hash != this.hash) {
+                return new BitmapNode(bitPosition(this.hash, shift), new Object[]{null, this})
+                        .assoc(shift, hash, key, value);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return array[index + 1] == value
+                        ? this
+                        : new CollisionNode(hash, cloneAndSet(array, index + 1, value));
+            }
+            Object[] result = new Object[array.length + 2];
+            System.arraycopy(array, 0, result, 0, array.length);
+            result[array.length] = key;
+            result[array.length + 1] = value;
+            return new CollisionNode(hash, result);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0) {
+                return this;
+            }
+            return array.length == 2
+                    ? null
+                    : new CollisionNode(hash, removePair(array, index / 2));
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+
+        @Override
+        public int slots() {
+            return array.length / 2;
+        }
+
+        @Override
+        public Object keyAt(int slot) {
+            return array[2 * slot];
+        }
+
+        @Override
+        public Object valueAt(int slot) {
+            return array[2 * slot + 1];
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] slots = new int[MAX_DEPTH];
+        private int depth = 0;
+        private Entry<K, V> next;
+
+        EntryIterator() {
+            nodes[0] = root;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            Entry<K, V> result = next;
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int slot = slots[depth];
+                if (slot >= node.slots()) {
+                    depth--;
+                    continue;
+                }
+                slots[depth] = slot + 1;
+                Object key = node.keyAt(slot);
+                Object value = node.valueAt(slot);
+                if (key == null) {
+                    depth++;
+                    nodes[depth] = (Node) value;
+                    slots[depth] = 0;
+                } else {
+                    next = new SimpleImmutableEntry<>((K) key, (V) value);
+                    return;
+                }
+            }
+        }
+    }
+}
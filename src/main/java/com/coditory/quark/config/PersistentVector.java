@@ -0,0 +1,219 @@
+package com.coditory.quark.config;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable vector stored as a 32-way trie with a tail buffer.
+ * Updates return a new vector that shares all unchanged nodes with the original one.
+ */
+final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0], 1);
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> copyOf(Collection<? extends E> values) {
+        if (values instanceof PersistentVector) {
+            return (PersistentVector<E>) values;
+        }
+        return fromArray(values.toArray());
+    }
+
+    private static <E> PersistentVector<E> fromArray(Object[] array) {
+        int size = array.length;
+        if (size == 0) {
+            return empty();
+        }
+        int hash = 1;
+        for (Object value : array) {
+            hash = 31 * hash + value.hashCode();
+        }
+        int tailOffset = tailOffset(size);
+        Object[] tail = Arrays.copyOfRange(array, tailOffset, size);
+        Object[][] nodes = new Object[tailOffset >>> BITS][];
+        for (int i = 0; i < nodes.length; ++i) {
+            nodes[i] = Arrays.copyOfRange(array, i * WIDTH, (i + 1) * WIDTH);
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH) {
+            Object[][] parents = new Object[(nodes.length + MASK) / WIDTH][];
+            for (int i = 0; i < parents.length; ++i) {
+                parents[i] = new Object[WIDTH];
+                System.arraycopy(nodes, i * WIDTH, parents[i], 0, Math.min(WIDTH, nodes.length - i * WIDTH));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        Object[] root = new Object[WIDTH];
+        System.arraycopy(nodes, 0, root, 0, nodes.length);
+        return new PersistentVector<>(size, shift, root, tail, hash);
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+    // polynomial hash defined by List.hashCode(), maintained on every update
+    private final int hash;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail, int hash) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.hash = hash;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    PersistentVector<E> plus(E value) {
+        int newHash = 31 * hash + value.hashCode();
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail, newHash);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value}, newHash);
+    }
+
+    PersistentVector<E> with(int index, E value) {
+        checkIndex(index);
+        E current = get(index);
+        if (current == value) {
+            return this;
+        }
+        int newHash = hash + (value.hashCode() - current.hashCode()) * pow31(size - 1 - index);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail, newHash);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, value), tail, newHash);
+    }
+
+    PersistentVector<E> minus(int index) {
+        checkIndex(index);
+        // removal shifts all following elements, so the vector is rebuilt in O(n)
+        Object[] array = new Object[size - 1];
+        for (int i = 0, j = 0; i < size; ++i) {
+            if (i != index) {
+                array[j++] = get(i);
+            }
+        }
+        return fromArray(array);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof List<?> other) || other.size() != size) return false;
+        if (o instanceof PersistentVector<?> vector && vector.hash != hash) return false;
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int pow31(int exponent) {
+        int result = 1;
+        int base = 31;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object[] nodeToInsert;
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            nodeToInsert = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        result[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], index, value);
+        }
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.coditory.quark.config;
 
+import com.coditory.quark.config.ConfigValueParser.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.coditory.quark.config.ConfigValueParser.defaultConfigValueParser;
 import static com.coditory.quark.config.MissingConfigValueException.missingConfigValueForPath;
@@ -26,6 +32,9 @@ final class ResolvableConfig implements Config {
             defaultSecretHidingValueMapper()
     );
 
+    private static final Object MISSING_VALUE = new Object();
+    private static final long MAX_EXACT_DOUBLE_LONG = 1L << 53;
+
     public static ResolvableConfig empty() {
         return EMPTY;
     }
@@ -34,6 +43,8 @@ final class ResolvableConfig implements Config {
     private final ConfigValueParser valueParser;
     private final MapConfigNode root;
     private final ConfigEntryMapper secretHidingValueMapper;
+    // values read by config keys, created on the first read
+    private volatile ConcurrentHashMap<ConfigKey<?>, Object> keyValues;
 
     ResolvableConfig(
             MapConfigNode root,
@@ -70,8 +81,7 @@ final class ResolvableConfig implements Config {
     @Override
     public boolean contains(@NotNull String path) {
         expectNonBlank(path, "path");
-        return root.getOptionalNode(Path.parse(path))
-                .isPresent();
+        return getNodeOrNull(ConfigPathCache.parse(path)) != null;
     }
 
     @NotNull
@@ -87,17 +97,43 @@ final class ResolvableConfig implements Config {
         return new ResolvableConfig(path, mapped, valueParser, secretHidingValueMapper);
     }
 
-    private ResolvableConfig withRoot(Path path, MapConfigNode root) {
-        return Objects.equals(this.root, root)
-                ? this
-                : new ResolvableConfig(this.path.add(path), root, valueParser, secretHidingValueMapper);
+    ResolvableConfig withRoot(Path path, MapConfigNode root) {
+        if (this.root == root) {
+            return this;
+        }
+        return new ResolvableConfig(this.path.add(path), root, valueParser, secretHidingValueMapper);
+    }
+
+    private ConfigNode getNodeOrNull(Path path) {
+        // walks the tree directly, so a lookup does not allocate
+        ConfigNode node = root;
+        for (int i = 0; i < path.length() && node != null; ++i) {
+            node = getChildOrNull(node, path.getElement(i));
+        }
+        return node;
+    }
+
+    private static ConfigNode getChildOrNull(ConfigNode node, Path.PathElement element) {
+        if (node instanceof MapConfigNode mapNode) {
+            return element.isNamed()
+                    ? mapNode.children().get(element.name())
+                    : null;
+        }
+        if (node instanceof ListConfigNode listNode && !element.isNamed()) {
+            List<ConfigNode> children = listNode.children();
+            int index = element.getIndex();
+            return index < children.size()
+                    ? children.get(index)
+                    : null;
+        }
+        return null;
     }
 
     @NotNull
     private Optional<List<Config>> extractSubConfigListAsOptional(@NotNull String path) {
         expectNonBlank(path, "path");
-        Path parsedPath = Path.parse(path);
-        return root.getOptionalNode(parsedPath)
+        Path parsedPath = ConfigPathCache.parse(path);
+        return Optional.ofNullable(getNodeOrNull(parsedPath))
                 .filter(node -> node instanceof ListConfigNode)
                 .map(node -> (ListConfigNode) node)
                 .map(node -> node.children().stream()
@@ -118,7 +154,7 @@ final class ResolvableConfig implements Config {
     @Override
     public Config getSubConfigOrEmpty(@NotNull String path) {
         expectNonBlank(path, "path");
-        return getSubConfig(path, withRoot(Path.parse(path), MapConfigNode.emptyRoot()));
+        return getSubConfig(path, withRoot(ConfigPathCache.parse(path), MapConfigNode.emptyRoot()));
     }
 
     @Nullable
@@ -141,8 +177,8 @@ final class ResolvableConfig implements Config {
     @Override
     public Optional<Config> getSubConfigAsOptional(@NotNull String path) {
         expectNonBlank(path, "path");
-        Path parsedPath = Path.parse(path);
-        return root.getOptionalNode(parsedPath)
+        Path parsedPath = ConfigPathCache.parse(path);
+        return Optional.ofNullable(getNodeOrNull(parsedPath))
                 .filter(node -> node instanceof MapConfigNode)
                 .map(node -> withRoot(parsedPath, (MapConfigNode) node));
     }
@@ -162,19 +198,144 @@ final class ResolvableConfig implements Config {
     @NotNull
     @Override
     public <T> Optional<T> getAsOptional(@NotNull Class<T> type, @NotNull String path) {
-        return getOptional(path)
-                .map(value -> value.getAs(valueParser, type));
+        expectNonBlank(path, "path");
+        return Optional.ofNullable(resolve(ConfigPathCache.parse(path), type));
+    }
+
+    @NotNull
+    @Override
+    public <T> T bind(@NotNull Class<T> type) {
+        expectNonNull(type, "type");
+        return ConfigBinder.bind(this, root, type);
+    }
+
+    @Nullable
+    @Override
+    public <T> T getOrNull(@NotNull ConfigKey<T> key) {
+        expectNonNull(key, "key");
+        return resolve(key);
+    }
+
+    @Override
+    public boolean getBooleanValue(@NotNull String path, boolean defaultValue) {
+        ConfigNode node = getLeafNode(path);
+        if (node instanceof LeafConfigNode.BooleanLeafConfigNode leaf) {
+            return leaf.booleanValue();
+        }
+        return node == null
+                ? defaultValue
+                : convert(node, path, Boolean.class);
+    }
+
+    @Override
+    public int getIntValue(@NotNull String path, int defaultValue) {
+        ConfigNode node = getLeafNode(path);
+        if (node instanceof LeafConfigNode.IntLeafConfigNode leaf) {
+            return leaf.intValue();
+        }
+        return node == null
+                ? defaultValue
+                : convert(node, path, Integer.class);
+    }
+
+    @Override
+    public long getLongValue(@NotNull String path, long defaultValue) {
+        ConfigNode node = getLeafNode(path);
+        if (node instanceof LeafConfigNode.LongLeafConfigNode leaf) {
+            return leaf.longValue();
+        }
+        if (node instanceof LeafConfigNode.IntLeafConfigNode leaf) {
+            return leaf.intValue();
+        }
+        return node == null
+                ? defaultValue
+                : convert(node, path, Long.class);
+    }
+
+    @Override
+    public double getDoubleValue(@NotNull String path, double defaultValue) {
+        ConfigNode node = getLeafNode(path);
+        if (node instanceof LeafConfigNode.DoubleLeafConfigNode leaf) {
+            return leaf.doubleValue();
+        }
+        if (node instanceof LeafConfigNode.IntLeafConfigNode leaf) {
+            return leaf.intValue();
+        }
+        // larger longs are converted with a precision check
+        if (node instanceof LeafConfigNode.LongLeafConfigNode leaf && isExactDouble(leaf.longValue())) {
+            return leaf.longValue();
+        }
+        return node == null
+                ? defaultValue
+                : convert(node, path, Double.class);
+    }
+
+    private static boolean isExactDouble(long value) {
+        return value >= -MAX_EXACT_DOUBLE_LONG && value <= MAX_EXACT_DOUBLE_LONG;
+    }
+
+    private ConfigNode getLeafNode(String path) {
+        expectNonBlank(path, "path");
+        return getNodeOrNull(ConfigPathCache.parse(path));
+    }
+
+    private <T> T convert(ConfigNode node, String path, Class<T> type) {
+        return convert(node, ConfigPathCache.parse(path), type);
+    }
+
+    <T> T convert(ConfigNode node, Path path, Class<T> type) {
+        return convert(node, path, valueParser.forType(type));
+    }
+
+    private <T> T convert(ConfigNode node, Path path, TypeParser<T> parser) {
+        return node instanceof LeafConfigNode leaf
+                ? leaf.getAs(path, parser)
+                : new ConfigValue(path, node.unwrap()).getAs(parser);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resolve(ConfigKey<T> key) {
+        ConcurrentHashMap<ConfigKey<?>, Object> keyValues = this.keyValues;
+        if (keyValues != null) {
+            Object value = keyValues.get(key);
+            if (value != null) {
+                return value == MISSING_VALUE ? null : (T) value;
+            }
+        }
+        TypeParser<T> parser = key.parser(valueParser);
+        ConfigNode node = getNodeOrNull(key.path());
+        T value = node == null
+                ? null
+                : convert(node, key.path(), parser);
+        // mutable results are not shared between reads
+        if (parser.hasImmutableResult()) {
+            if (keyValues == null) {
+                keyValues = new ConcurrentHashMap<>();
+                this.keyValues = keyValues;
+            }
+            keyValues.put(key, value == null ? MISSING_VALUE : value);
+        }
+        return value;
+    }
+
+    <T> T resolve(Path path, Class<T> type) {
+        ConfigNode node = getNodeOrNull(path);
+        return node == null
+                ? null
+                : convert(node, path, type);
     }
 
     private Optional<ConfigValue> getOptional(String path) {
         expectNonBlank(path, "path");
-        return getOptional(Path.parse(path));
+        return getOptional(ConfigPathCache.parse(path));
     }
 
     private Optional<ConfigValue> getOptional(Path path) {
         expectNonNull(path, "path");
-        return root.getOptional(path)
-                .map(value -> new ConfigValue(path, value));
+        ConfigNode node = getNodeOrNull(path);
+        return node == null
+                ? Optional.empty()
+                : Optional.of(new ConfigValue(path, node.unwrap()));
     }
 
     @Override
@@ -205,11 +366,23 @@ final class ResolvableConfig implements Config {
 
     @NotNull
     public Map<String, Object> toFlatMap() {
-        LinkedHashMap<String, Object> result = new LinkedHashMap<>();
-        root.entries().stream()
-                .map(entry -> entry(entry.getKey().toString(), entry.getValue()))
-                .sorted(comparingByKey())
-                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        List<Entry<String, Object>> entries = new ArrayList<>();
+        forEachLeaf((path, value) -> entries.add(entry(path, value)));
+        entries.sort(comparingByKey());
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>(entries.size());
+        entries.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
         return unmodifiableMap(result);
     }
+
+    @Override
+    public void forEachLeaf(@NotNull ConfigEntryVisitor visitor) {
+        expectNonNull(visitor, "visitor");
+        root.forEachLeaf(new StringBuilder(), visitor);
+    }
+
+    @NotNull
+    @Override
+    public Stream<Entry<String, Object>> leaves() {
+        return StreamSupport.stream(new ConfigLeafSpliterator(root), false);
+    }
 }
@@ -0,0 +1,32 @@
+package com.coditory.quark.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+class TypedValueParser<V> implements ValueParser {
+    private final Class<V> type;
+    private final Function<String, V> parser;
+
+    public TypedValueParser(@NotNull Class<V> type, @NotNull Function<String, V> parser) {
+        this.type = requireNonNull(type, "Expected non null type");
+        this.parser = requireNonNull(parser, "Expected non null parser");
+    }
+
+    Class<V> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isApplicable(@NotNull Class<?> type, String value) {
+        return type.isAssignableFrom(this.type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T parse(@NotNull Class<T> type, String value) {
+        return (T) parser.apply(value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.coditory.quark.config;
+
+import com.coditory.quark.config.ConfigNodeCreator.MapNodeBuilder;
+import org.snakeyaml.engine.v2.api.ConstructNode;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.common.Anchor;
+import org.snakeyaml.engine.v2.events.AliasEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.NodeEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds config nodes straight from YAML parser events, without composing a YAML node graph
+ * or an intermediate map. Anchored nodes are immutable, so aliases share them.
+ */
+final class YamlEventReader {
+    private final LoadSettings settings;
+    private final Map<Tag, ConstructNode> constructors;
+    private final Iterator<Event> events;
+    private final Map<Anchor, ConfigNode> anchors = new HashMap<>();
+    private int collectionAliases = 0;
+
+    private YamlEventReader(LoadSettings settings, Map<Tag, ConstructNode> constructors, Iterator<Event> events) {
+        this.settings = settings;
+        this.constructors = constructors;
+        this.events = events;
+    }
+
+    static Map<Tag, ConstructNode> constructors(LoadSettings settings) {
+        Map<Tag, ConstructNode> constructors = new HashMap<>(settings.getSchema().getSchemaTagConstructors());
+        constructors.putAll(settings.getTagConstructors());
+        return Map.copyOf(constructors);
+    }
+
+    static Config read(LoadSettings settings, Map<Tag, ConstructNode> constructors, Iterable<Event> events) {
+        return new YamlEventReader(settings, constructors, events.iterator()).readStream();
+    }
+
+    private Config readStream() {
+        expect(next(), Event.ID.StreamStart);
+        Event event = next();
+        if (event.getEventId() == Event.ID.StreamEnd) {
+            return Config.empty();
+        }
+        expect(event, Event.ID.DocumentStart);
+        ConfigNode root = readNode(next());
+        expect(next(), Event.ID.DocumentEnd);
+        event = next();
+        if (event.getEventId() != Event.ID.StreamEnd) {
+            throw new IllegalArgumentException("Expected a single YAML document" + mark(event));
+        }
+        if (root == null) {
+            return Config.empty();
+        }
+        if (!(root instanceof MapConfigNode map)) {
+            throw new IllegalArgumentException("Expected YAML document to be a mapping");
+        }
+        return Config.builder()
+                .setRootNode(map)
+                .build();
+    }
+
+    // returns null for YAML null values
+    private ConfigNode readNode(Event event) {
+        ConfigNode node = switch (event.getEventId()) {
+            case Alias -> readAlias((AliasEvent) event);
+            case Scalar -> readScalar((ScalarEvent) event);
+            case MappingStart -> readMapping();
+            case SequenceStart -> readSequence();
+            default -> throw new IllegalArgumentException("Unexpected YAML event: " + event.getEventId() + mark(event));
+        };
+        if (event instanceof NodeEvent nodeEvent && !(event instanceof AliasEvent)) {
+            nodeEvent.getAnchor().ifPresent(anchor -> anchors.put(anchor, node));
+        }
+        return node;
+    }
+
+    private ConfigNode readAlias(AliasEvent event) {
+        Anchor anchor = event.getAlias();
+        if (!anchors.containsKey(anchor)) {
+            throw new IllegalArgumentException("Found undefined YAML alias: " + anchor + mark(event));
+        }
+        ConfigNode node = anchors.get(anchor);
+        if (node instanceof MapConfigNode || node instanceof ListConfigNode) {
+            if (++collectionAliases > settings.getMaxAliasesForCollections()) {
+                throw new IllegalArgumentException("Number of YAML aliases for collections exceeds "
+                        + settings.getMaxAliasesForCollections());
+            }
+        }
+        return node;
+    }
+
+    private ConfigNode readScalar(ScalarEvent event) {
+        Tag tag = event.getTag().isEmpty() || event.getTag().get().equals("!")
+                ? settings.getSchema().getScalarResolver()
+                .resolve(event.getValue(), event.getImplicit().canOmitTagInPlainScalar())
+                : new Tag(event.getTag().get());
+        if (tag.equals(Tag.STR)) {
+            return LeafConfigNode.of(event.getValue());
+        }
+        ConstructNode constructor = constructors.get(tag);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Unsupported YAML tag: " + tag + mark(event));
+        }
+        Object value = constructor.construct(new ScalarNode(tag, event.getValue(), event.getScalarStyle()));
+        return value == null ? null : LeafConfigNode.of(value);
+    }
+
+    private MapConfigNode readMapping() {
+        MapNodeBuilder builder = new MapNodeBuilder();
+        Event event = next();
+        while (event.getEventId() != Event.ID.MappingEnd) {
+            if (!(event instanceof ScalarEvent keyEvent)) {
+                throw new IllegalArgumentException("Expected scalar YAML key" + mark(event));
+            }
+            String key = keyEvent.getValue();
+            if (!settings.getAllowDuplicateKeys() && builder.isDuplicate(key)) {
+                throw new IllegalArgumentException("Found duplicate YAML key: " + key + mark(keyEvent));
+            }
+            builder.put(key, readNode(next()));
+            event = next();
+        }
+        return builder.build();
+    }
+
+    private ListConfigNode readSequence() {
+        List<ConfigNode> children = new ArrayList<>();
+        Event event = next();
+        while (event.getEventId() != Event.ID.SequenceEnd) {
+            ConfigNode child = readNode(event);
+            if (child == null) {
+                throw new IllegalArgumentException("Expected non-null YAML list element" + mark(event));
+            }
+            children.add(child);
+            event = next();
+        }
+        return new ListConfigNode(children);
+    }
+
+    private Event next() {
+        if (!events.hasNext()) {
+            throw new IllegalArgumentException("Unexpected end of YAML stream");
+        }
+        return events.next();
+    }
+
+    private static void expect(Event event, Event.ID expected) {
+        if (event.getEventId() != expected) {
+            throw new IllegalArgumentException("Expected YAML event: " + expected
+                    + ", got: " + event.getEventId() + mark(event));
+        }
+    }
+
+    private static String mark(Event event) {
+        return event.getStartMark()
+                .map(mark -> "\n" + mark)
+                .orElse("");
+    }
+}
@@ -0,0 +1,177 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.jar.Attributes
+import java.util.jar.JarOutputStream
+import java.util.jar.Manifest
+import java.util.logging.Handler
+import java.util.logging.LogRecord
+import java.util.logging.Logger
+import java.util.zip.ZipEntry
+
+class ClasspathConfigIndexSpec extends Specification {
+    @TempDir
+    Path dir
+
+    CountingClassLoader classLoader
+    ClassLoader previousClassLoader
+
+    def setup() {
+        Path classes = Files.createDirectories(dir.resolve("classes/config"))
+        Files.writeString(classes.resolve("application.properties"), "a=dir")
+        Files.writeString(dir.resolve("classes/duplicate.properties"), "a=dir")
+        writeJar(dir.resolve("linked.jar"), false, [
+                "linked.json": '{ "f": "linked" }'
+        ])
+        Path jar = writeJar(dir.resolve("lib.jar"), true, [
+                "config/application-x.json": '{ "b": "jar" }',
+                "root.json"                : '{ "c": "jar" }',
+                "duplicate.json"           : '{ "a": "jar" }'
+        ])
+        Path bareJar = writeJar(dir.resolve("bare.jar"), false, [
+                "config/application-y.json": '{ "d": "bare" }',
+                "bare.yml"                 : 'e: bare'
+        ])
+        URL[] urls = [dir.resolve("classes"), jar, bareJar].collect { it.toUri().toURL() }
+        classLoader = new CountingClassLoader(urls, null)
+        previousClassLoader = Thread.currentThread().getContextClassLoader()
+        Thread.currentThread().setContextClassLoader(classLoader)
+    }
+
+    def cleanup() {
+        Thread.currentThread().setContextClassLoader(previousClassLoader)
+        classLoader.close()
+        ClasspathConfigIndex.clear()
+    }
+
+    def "should index resources from directories and jars"() {
+        expect:
+            ClasspathConfigIndex.getResource(classLoader, "config/application.properties") != null
+            ClasspathConfigIndex.getResource(classLoader, "config/application-x.json") != null
+            ClasspathConfigIndex.getResource(classLoader, "root.json") != null
+        and:
+            ClasspathConfigIndex.getResource(classLoader, "config/application.yml") == null
+            ClasspathConfigIndex.getResource(classLoader, "config/root.json") == null
+            ClasspathConfigIndex.getResource(classLoader, "missing.yml") == null
+    }
+
+    def "should find resources in jars without manifest and directory entries"() {
+        expect:
+            ClasspathConfigIndex.getResource(classLoader, "config/application-y.json") != null
+            ClasspathConfigIndex.getResource(classLoader, "bare.yml") != null
+        and: "repeated lookups return the same answer"
+            ClasspathConfigIndex.getResource(classLoader, "bare.yml") != null
+            ClasspathConfigIndex.getResource(classLoader, "bare.yaml") == null
+            ClasspathConfigIndex.getResource(classLoader, "bare.yaml") == null
+    }
+
+    def "should load configs resolved with the index"() {
+        when:
+            Config config = new ConfigLoader()
+                    .configPath("config")
+                    .profiles("x", "y")
+                    .loadConfig()
+        then:
+            config.toMap() == [a: "dir", b: "jar", d: "bare"]
+        and:
+            ConfigFactory.loadFromClasspath("root").toMap() == [c: "jar"]
+            ConfigFactory.loadFromClasspath("bare").toMap() == [e: "bare"]
+            ConfigFactory.loadFromClasspathOrEmpty("missing").toMap() == [:]
+    }
+
+    def "should index jars from manifest class path"() {
+        expect:
+            ConfigFactory.loadFromClasspath("linked").toMap() == [f: "linked"]
+    }
+
+    def "should not ask class loader for config files missing from listed roots"() {
+        when:
+            Config config = new ConfigLoader()
+                    .configPath("config")
+                    .profiles("x", "y", "z")
+                    .loadConfig()
+        then:
+            config.toMap() == [a: "dir", b: "jar", d: "bare"]
+            ClasspathConfigIndex.isAuthoritative(classLoader)
+        and: "only found config files are resolved"
+            classLoader.requested.toSet() == [
+                    "config/application.properties",
+                    "config/application-x.json",
+                    "config/application-y.json"
+            ] as Set
+    }
+
+    def "should ask class loader once per name when roots cannot be listed"() {
+        given:
+            CountingClassLoader unlisted = new CountingClassLoader(new URL[0], new ClassLoader(classLoader) {})
+        expect:
+            !ClasspathConfigIndex.isAuthoritative(unlisted)
+            ClasspathConfigIndex.getResource(unlisted, "root.json") != null
+            ClasspathConfigIndex.getResource(unlisted, "missing.yml") == null
+            ClasspathConfigIndex.getResource(unlisted, "missing.yml") == null
+        and:
+            unlisted.requested.count { it == "missing.yml" } == 1
+    }
+
+    def "should load first config file in extension order"() {
+        expect:
+            ConfigFactory.loadFromClasspath("duplicate").toMap() == [a: "jar"]
+            ConfigFactory.loadFromClasspath("duplicate.properties").toMap() == [a: "dir"]
+    }
+
+    def "should warn about config file in multiple formats"() {
+        given:
+            List<LogRecord> records = []
+            Handler handler = new Handler() {
+                void publish(LogRecord record) { records.add(record) }
+                void flush() {}
+                void close() {}
+            }
+            Logger logger = Logger.getLogger(ConfigFactory.name)
+            logger.addHandler(handler)
+        when:
+            Config config = ConfigFactory.loadFromClasspath("duplicate")
+        then:
+            config.toMap() == [a: "jar"]
+            records.size() == 1
+            records[0].message.contains("duplicate.json")
+            records[0].message.contains("duplicate.properties")
+        cleanup:
+            logger.removeHandler(handler)
+    }
+
+    private static Path writeJar(Path path, boolean withManifest, Map<String, String> entries) {
+        Manifest manifest = new Manifest()
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0")
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "linked.jar")
+        JarOutputStream output = withManifest
+                ? new JarOutputStream(Files.newOutputStream(path), manifest)
+                : new JarOutputStream(Files.newOutputStream(path))
+        output.withCloseable { jar ->
+            entries.each { name, content ->
+                jar.putNextEntry(new ZipEntry(name))
+                jar.write(content.getBytes("UTF-8"))
+                jar.closeEntry()
+            }
+        }
+        return path
+    }
+
+    static class CountingClassLoader extends URLClassLoader {
+        final List<String> requested = Collections.synchronizedList([])
+
+        CountingClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent)
+        }
+
+        @Override
+        URL getResource(String name) {
+            requested.add(name)
+            return super.getResource(name)
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.temporal.TemporalAmount
+
+class ConfigBindingSpec extends Specification {
+    Config config = Config.of([
+            db     : [
+                    host    : "localhost",
+                    port    : "5432",
+                    replicas: ["r1", "r2"],
+                    pool    : [size: 8, timeout: "5s"],
+                    other   : "X"
+            ],
+            tenant : [name: "T1", limit: 10],
+            invalid: [port: -1]
+    ])
+
+    def "should bind sub-config to record"() {
+        when:
+            DbSettings result = config.bind("db", DbSettings)
+        then:
+            result == new DbSettings(
+                    "localhost", 5432, Optional.empty(), ["r1", "r2"],
+                    new PoolSettings(8, Duration.ofSeconds(5))
+            )
+    }
+
+    def "should bind sub-config to interface"() {
+        when:
+            TenantSettings result = config.bind("tenant", TenantSettings)
+        then:
+            result.name() == "T1"
+            result.limit() == 10
+            result.toString() == "TenantSettings[name=T1, limit=10]" || result.toString() == "TenantSettings[limit=10, name=T1]"
+            result == config.bind("tenant", TenantSettings)
+    }
+
+    def "should fail to bind missing value"() {
+        when:
+            config.bind("tenant", PoolSettings)
+        then:
+            MissingConfigValueException e = thrown(MissingConfigValueException)
+            e.message == "Missing config value for path: tenant.size"
+    }
+
+    def "should fail to bind invalid value"() {
+        when:
+            config.bind("tenant", InvalidSettings)
+        then:
+            ConfigValueConversionException e = thrown(ConfigValueConversionException)
+            e.message == "Could not convert value to Integer. Path name, Value: T1"
+    }
+
+    def "should fail to bind value rejected by record constructor"() {
+        when:
+            config.bind("invalid", ValidatedSettings)
+        then:
+            ConfigValueConversionException e = thrown(ConfigValueConversionException)
+            e.cause instanceof IllegalArgumentException
+    }
+
+    def "should bind value interfaces as values"() {
+        given:
+            Config config = Config.of([name: "N", timeout: "1s", labels: [a: "A"], tags: ["t1"]])
+        when:
+            ValueInterfaces result = config.bind(ValueInterfaces)
+        then:
+            result == new ValueInterfaces("N", Duration.ofSeconds(1), [a: "A"], ["t1"])
+    }
+
+    def "should bind interface parsed by a value parser"() {
+        given:
+            Config config = Config.builder()
+                    .put("region.code", "eu")
+                    .addValueParser(Region, { String value -> { -> value.toUpperCase() } as Region })
+                    .build()
+        when:
+            RegionSettings result = config.bind("region", RegionSettings)
+        then:
+            result.code().code() == "EU"
+    }
+
+    def "should mark bound properties as used"() {
+        given:
+            AuditableConfig auditable = config.getSubConfig("db").auditable()
+        when:
+            auditable.bind(DbSettings)
+        then:
+            auditable.getUnusedProperties().toMap() == [other: "X"]
+    }
+
+    record PoolSettings(int size, Duration timeout) {}
+
+    record DbSettings(String host, int port, Optional<String> user, List<String> replicas, PoolSettings pool) {}
+
+    record InvalidSettings(Integer name) {}
+
+    record ValidatedSettings(int port) {
+        ValidatedSettings {
+            if (port < 0) {
+                throw new IllegalArgumentException("Expected non negative port")
+            }
+        }
+    }
+
+    record ValueInterfaces(CharSequence name, TemporalAmount timeout, Map labels, Collection tags) {}
+
+    interface Region {
+        String code()
+    }
+
+    record RegionSettings(Region code) {}
+
+    interface TenantSettings {
+        String name()
+
+        int limit()
+    }
+}
@@ -42,4 +42,71 @@ class ConfigConversionSpec extends Specification {
         then:
             map == rawMap
     }
+
+    def "should return the same read only nested map on subsequent calls"() {
+        given:
+            Config config = Config.of([a: [b: "B", c: ["C0", "C1"]]])
+        when:
+            Map<String, Object> map = config.toMap()
+        then:
+            config.toMap().is(map)
+            config.getSubConfig("a").toMap().is(map.a)
+        when:
+            map.a.c.add("C2")
+        then:
+            thrown(UnsupportedOperationException)
+    }
+
+    def "should visit config leaves"() {
+        given:
+            Config config = Config.of([a: [b: "B", c: [[d: 123], "C1"]], e: true])
+            Map<String, Object> visited = [:]
+        when:
+            config.forEachLeaf({ path, value -> visited.put(path, value) })
+        then:
+            visited == ['a.b': "B", 'a.c[0].d': 123, 'a.c[1]': "C1", e: true]
+    }
+
+    def "should stream config leaves in parallel"() {
+        given:
+            ConfigBuilder builder = Config.builder()
+            1000.times { builder.put("a${it % 7}.b${it}", it) }
+            Config config = builder.build()
+        when:
+            List<String> sequential = config.leaves().map { it.key }.toList()
+            List<String> parallel = config.leaves().parallel().map { it.key }.toList()
+        then:
+            sequential.size() == 1000
+            parallel == sequential
+            sequential.toSet() == config.toFlatMap().keySet()
+    }
+
+    def "should estimate config leaves and split the estimate"() {
+        given:
+            ConfigBuilder builder = Config.builder()
+            1000.times { builder.put("a${it % 10}.b${it}", it) }
+            Spliterator<Map.Entry<String, Object>> spliterator = builder.build().leaves().spliterator()
+        when:
+            Spliterator<Map.Entry<String, Object>> prefix = spliterator.trySplit()
+        then:
+            prefix.estimateSize() == 500
+            spliterator.estimateSize() == 500
+        and:
+            int count = 0
+            prefix.forEachRemaining { count++ }
+            spliterator.forEachRemaining { count++ }
+            count == 1000
+    }
+
+    def "should build leaf paths of nested lists"() {
+        given:
+            Config config = Config.of([a: [[b: 1], [2, 3]], c: [:], d: "x"])
+            Spliterator<Map.Entry<String, Object>> spliterator = config.leaves().spliterator()
+            List<String> paths = []
+        when:
+            while (spliterator.tryAdvance { paths.add(it.key) }) {
+            }
+        then:
+            paths == ["a[0].b", "a[1][0]", "a[1][1]", "d"]
+    }
 }
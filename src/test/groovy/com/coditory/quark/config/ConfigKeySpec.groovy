@@ -0,0 +1,89 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class ConfigKeySpec extends Specification {
+    static final ConfigKey<Duration> TIMEOUT = ConfigKey.of("http.timeout", Duration)
+    static final ConfigKey<Integer> PORT = ConfigKey.of("http.port", Integer)
+
+    def "should resolve value by config key"() {
+        given:
+            Config config = Config.of([http: [timeout: "1s", port: "8080"]])
+        expect:
+            config.get(TIMEOUT) == Duration.ofSeconds(1)
+            config.get(PORT) == 8080
+    }
+
+    def "should return memoized value for the same config"() {
+        given:
+            Config config = Config.of([http: [timeout: "1s"]])
+        expect:
+            config.get(TIMEOUT).is(config.get(TIMEOUT))
+    }
+
+    def "should resolve value per config"() {
+        given:
+            Config config = Config.of([http: [timeout: "1s"]])
+            Config other = Config.of([http: [timeout: "2s"]])
+        expect:
+            config.get(TIMEOUT) == Duration.ofSeconds(1)
+            other.get(TIMEOUT) == Duration.ofSeconds(2)
+            config.get(TIMEOUT) == Duration.ofSeconds(1)
+    }
+
+    def "should keep memoized values of interleaved configs"() {
+        given:
+            Config config = Config.of([http: [timeout: "1s"]])
+            Config other = Config.of([http: [timeout: "2s"]])
+            Duration first = config.get(TIMEOUT)
+        when:
+            other.get(TIMEOUT)
+        then:
+            config.get(TIMEOUT).is(first)
+    }
+
+    def "should not share values of mutable types"() {
+        given:
+            ConfigKey<StringBuilder> key = ConfigKey.of("name", StringBuilder)
+            Config config = Config.builder()
+                    .put("name", "x")
+                    .addValueParser(StringBuilder, { new StringBuilder(it) })
+                    .build()
+        expect:
+            config.get(key).toString() == "x"
+            !config.get(key).is(config.get(key))
+    }
+
+    def "should resolve key relative to sub config"() {
+        given:
+            Config config = Config.of([a: [http: [port: 8081]]])
+        expect:
+            config.getSubConfig("a").get(PORT) == 8081
+    }
+
+    def "should handle missing value"() {
+        given:
+            Config config = Config.of([a: "A"])
+        expect:
+            config.getOrNull(PORT) == null
+            config.get(PORT, 80) == 80
+            config.getAsOptional(PORT) == Optional.empty()
+        when:
+            config.get(PORT)
+        then:
+            MissingConfigValueException e = thrown(MissingConfigValueException)
+            e.message == "Missing config value for path: http.port"
+    }
+
+    def "should mark value read by key as used"() {
+        given:
+            AuditableConfig config = Config.of([http: [port: 8080]]).auditable()
+        when:
+            config.get(PORT)
+            config.failOnUnusedProperties()
+        then:
+            noExceptionThrown()
+    }
+}
@@ -0,0 +1,60 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+class ConfigNodeInternerSpec extends Specification {
+    def setup() {
+        ConfigNodeInterner.clear()
+    }
+
+    def cleanup() {
+        ConfigNodeInterner.clear()
+    }
+
+    def "should share structurally equal sub trees"() {
+        given:
+            Config config = Config.builder()
+                    .put("a.retry.max", 3)
+                    .put("a.retry.timeout", "PT30S")
+                    .put("b.retry.max", 3)
+                    .put("b.retry.timeout", "PT30S")
+                    .internNodes()
+                    .build()
+        expect:
+            config.getSubConfig("a.retry").getRootNode()
+                    .is(config.getSubConfig("b.retry").getRootNode())
+        and:
+            config.toMap() == [
+                    a: [retry: [max: 3, timeout: "PT30S"]],
+                    b: [retry: [max: 3, timeout: "PT30S"]]
+            ]
+    }
+
+    def "should share sub trees between configs"() {
+        given:
+            Config config = Config.builder()
+                    .put("a.max", 3)
+                    .internNodes()
+                    .build()
+            Config other = Config.builder()
+                    .put("b.max", 3)
+                    .internNodes()
+                    .build()
+        expect:
+            config.getSubConfig("a").getRootNode()
+                    .is(other.getSubConfig("b").getRootNode())
+    }
+
+    def "should report deduplicated nodes"() {
+        when:
+            Config.builder()
+                    .put("a.max", 3)
+                    .put("b.max", 3)
+                    .internNodes()
+                    .build()
+        then:
+            ConfigNodeInterner.Stats stats = ConfigNodeInterner.stats()
+            stats.internedNodes() == 5
+            stats.deduplicatedNodes() == 2
+    }
+}
@@ -0,0 +1,96 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+class ConfigPathCacheSpec extends Specification {
+    def setup() {
+        ConfigPathCache.clear()
+    }
+
+    def cleanup() {
+        ConfigPathCache.setMaxSize(ConfigPathCache.DEFAULT_MAX_SIZE)
+        ConfigPathCache.clear()
+    }
+
+    def "should count path cache hits and misses"() {
+        given:
+            Config config = Config.of([a: [b: "AB"]])
+        when:
+            config.getString("a.b")
+            config.getString("a.b")
+            config.getString("a.b")
+        then:
+            ConfigPathCache.Stats stats = ConfigPathCache.stats()
+            stats.misses() == 1
+            stats.hits() == 2
+            stats.size() == 1
+    }
+
+    def "should share cached paths between configs"() {
+        given:
+            Config config = Config.of([a: "A"])
+            Config other = Config.of([a: "X"])
+        when:
+            config.getString("a")
+            other.getString("a")
+        then:
+            ConfigPathCache.stats().hits() == 1
+    }
+
+    def "should evict paths above max size"() {
+        given:
+            ConfigPathCache.setMaxSize(2)
+            Config config = Config.of([a: "A", b: "B", c: "C"])
+        when:
+            config.getString("a")
+            config.getString("b")
+            config.getString("c")
+        then:
+            ConfigPathCache.stats().size() == 2
+            ConfigPathCache.stats().misses() == 3
+    }
+
+    def "should not cache paths when disabled"() {
+        given:
+            ConfigPathCache.setMaxSize(0)
+            Config config = Config.of([a: "A"])
+        when:
+            config.getString("a")
+            config.getString("a")
+        then:
+            ConfigPathCache.stats().size() == 0
+            ConfigPathCache.stats().misses() == 2
+    }
+
+    def "should keep recently used paths when evicting"() {
+        given:
+            ConfigPathCache.setMaxSize(4)
+            Map<String, String> values = (0..<50).collectEntries { ["k$it".toString(), "v$it".toString()] }
+            Config config = Config.of(values)
+        when:
+            values.keySet().each { key ->
+                config.getString("k0")
+                config.getString(key)
+            }
+        then:
+            ConfigPathCache.stats().size() <= 4
+            ConfigPathCache.stats().misses() == 50
+    }
+
+    def "should evict paths cached after clear"() {
+        given:
+            ConfigPathCache.setMaxSize(2)
+            Config config = Config.of([a: "A", b: "B", c: "C", d: "D"])
+            config.getString("a")
+            config.getString("b")
+            config.getString("c")
+        when:
+            ConfigPathCache.clear()
+            config.getString("b")
+            config.getString("c")
+            config.getString("d")
+        then:
+            ConfigPathCache.stats().size() == 2
+            ConfigPathCache.stats().misses() == 3
+    }
+}
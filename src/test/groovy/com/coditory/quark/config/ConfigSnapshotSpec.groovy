@@ -0,0 +1,152 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ConfigSnapshotSpec extends Specification {
+    @TempDir
+    Path dir
+
+    def "should write and read all config value types"() {
+        given:
+            Config config = Config.of([
+                    s   : "ą€",
+                    i   : 1,
+                    l   : 5_000_000_000L,
+                    d   : 1.5d,
+                    t   : true,
+                    f   : false,
+                    bd  : new BigDecimal("0.1"),
+                    bi  : new BigInteger("1" + "0" * 30),
+                    fl  : 1.5f,
+                    sh  : (short) 3,
+                    by  : (byte) 4,
+                    list: [[k: 1], [k: 2]],
+                    m   : [:],
+                    e   : []
+            ])
+            byte[] source = "source".getBytes("UTF-8")
+            ByteArrayOutputStream output = new ByteArrayOutputStream()
+        when:
+            ConfigSnapshot.write(config.getRootNode(), source, output)
+            Config result = ConfigSnapshot.read(new ByteArrayInputStream(output.toByteArray()), source).get()
+        then:
+            result == config
+            result.toMap() == config.toMap()
+            result.getObject("fl") instanceof Float
+            result.getObject("sh") instanceof Short
+            result.getObject("bd") instanceof BigDecimal
+    }
+
+    def "should compile config file to a snapshot"() {
+        given:
+            Path configFile = dir.resolve("application.yml")
+            Files.writeString(configFile, "a:\n  b: 1\n  c: [1.5, x]\n")
+            Path snapshotFile = dir.resolve("out/application.yml.qcs")
+        when:
+            ConfigSnapshot.compile(configFile, snapshotFile)
+            Config result = ConfigSnapshot.read(snapshotFile.toUri().toURL(), configFile.toUri().toURL()).get()
+        then:
+            result.toMap() == [a: [b: 1, c: [1.5, "x"]]]
+    }
+
+    def "should prefer classpath snapshot over config file"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "text" }')
+            writeSnapshot(dir.resolve("snapshot-test.json.qcs"), Config.of(a: "snapshot"), Files.readAllBytes(configFile))
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspath("snapshot-test") }
+        then:
+            result.toMap() == [a: "snapshot"]
+    }
+
+    def "should ignore snapshot of a different config file"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "snapshot" }')
+            ConfigSnapshot.compile(configFile, dir.resolve("snapshot-test.json.qcs"))
+            Files.writeString(configFile, '{ "a": "changed" }')
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspath("snapshot-test") }
+        then:
+            result.toMap() == [a: "changed"]
+    }
+
+    def "should ignore snapshot of a config file with the same size"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "text" }')
+            writeSnapshot(dir.resolve("snapshot-test.json.qcs"), Config.of(a: "snapshot"), Files.readAllBytes(configFile))
+            Files.writeString(configFile, '{ "a": "tuxt" }')
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspath("snapshot-test") }
+        then:
+            result.toMap() == [a: "tuxt"]
+    }
+
+    def "should ignore snapshot without config file"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "snapshot" }')
+            ConfigSnapshot.compile(configFile, dir.resolve("snapshot-test.json.qcs"))
+            Files.delete(configFile)
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspathOrEmpty("snapshot-test") }
+        then:
+            result.isEmpty()
+    }
+
+    def "should fall back to config file when snapshot is not readable"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "text" }')
+            Files.write(dir.resolve("snapshot-test.json.qcs"), snapshot)
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspath("snapshot-test") }
+        then:
+            result.toMap() == [a: "text"]
+        where:
+            snapshot << [
+                    [0x51, 0x43, 0x46, 0x53, 99] as byte[],
+                    "garbage".getBytes("UTF-8"),
+                    new byte[0]
+            ]
+    }
+
+    def "should fall back to config file when snapshot is truncated"() {
+        given:
+            Path configFile = dir.resolve("snapshot-test.json")
+            Files.writeString(configFile, '{ "a": "text" }')
+            Path snapshotFile = dir.resolve("snapshot-test.json.qcs")
+            writeSnapshot(snapshotFile, Config.of(a: "snapshot"), Files.readAllBytes(configFile))
+            byte[] snapshot = Files.readAllBytes(snapshotFile)
+            Files.write(snapshotFile, Arrays.copyOf(snapshot, snapshot.length - 2))
+        when:
+            Config result = withClasspath(dir) { ConfigFactory.loadFromClasspath("snapshot-test") }
+        then:
+            result.toMap() == [a: "text"]
+    }
+
+    private static void writeSnapshot(Path path, Config config, byte[] source) {
+        Files.newOutputStream(path).withCloseable { output ->
+            ConfigSnapshot.write(config.getRootNode(), source, output)
+        }
+    }
+
+    private static <T> T withClasspath(Path path, Closure<T> action) {
+        Thread thread = Thread.currentThread()
+        ClassLoader previous = thread.getContextClassLoader()
+        URLClassLoader classLoader = new URLClassLoader([path.toUri().toURL()] as URL[], null)
+        thread.setContextClassLoader(classLoader)
+        try {
+            return action.call()
+        } finally {
+            thread.setContextClassLoader(previous)
+            classLoader.close()
+        }
+    }
+}
@@ -49,4 +49,60 @@ class NumberConversionSpec extends Specification {
             12       || 12d
             123123   || 123123d
     }
+
+    def "should convert numbers without precision loss"() {
+        given:
+            Config config = Config.builder()
+                    .putAll(a: value)
+                    .build()
+        expect:
+            config.get(type, "a") == expected
+        where:
+            value                          | type       || expected
+            8080.0d                        | Integer    || 8080
+            new BigDecimal("8080.000")     | Integer    || 8080
+            12                             | BigDecimal || new BigDecimal("12")
+            0.1f                           | BigDecimal || new BigDecimal("0.1")
+            new BigDecimal("1e20")         | BigInteger || new BigInteger("100000000000000000000")
+            Long.MAX_VALUE                 | BigInteger || BigInteger.valueOf(Long.MAX_VALUE)
+            127                            | Byte       || (byte) 127
+            -32768                         | Short      || (short) -32768
+            1.5d                           | Float      || 1.5f
+            new BigDecimal("0.1")          | Double     || 0.1d
+            new BigDecimal("0.1")          | Float      || 0.1f
+            0.1f                           | Double     || 0.1d
+            0.1d                           | Float      || 0.1f
+            9007199254740992L              | Double     || 9007199254740992d
+            new BigInteger("1" + "0" * 20) | Double     || 1e20d
+    }
+
+    def "should not convert numbers out of range or with fractions"() {
+        given:
+            Config config = Config.builder()
+                    .putAll(a: value)
+                    .build()
+        when:
+            config.get(type, "a")
+        then:
+            thrown(ConfigValueConversionException)
+        where:
+            value                          | type
+            2147483648L                    | Integer
+            8080.5d                        | Integer
+            9.3e18d                        | Long
+            Double.NaN                     | Long
+            new BigInteger("1" + "0" * 19) | Long
+            128                            | Byte
+            40000                          | Short
+            1e300d                         | Float
+            new BigDecimal("1e400")        | Double
+            Long.MAX_VALUE                 | Double
+            16777217                       | Float
+            9007199254740993L              | Double
+            new BigDecimal("0.10000000000000000001") | Double
+            new BigDecimal("0.1000000001") | Float
+            0.1234567891d                  | Float
+            new BigDecimal("1e-400")       | Double
+            new BigDecimal("0.5")          | BigInteger
+    }
 }
@@ -0,0 +1,68 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class ParallelConfigLoadingSpec extends Specification {
+    @TempDir
+    Path dir
+
+    URLClassLoader classLoader
+    ClassLoader previousClassLoader
+
+    def setup() {
+        Files.createDirectories(dir.resolve("config"))
+        Files.writeString(dir.resolve("config/application.properties"), "a=base\nb=base\nc=base\nd=base")
+        Files.writeString(dir.resolve("config/application-x.json"), '{ "b": "x", "c": "x", "d": "x" }')
+        Files.writeString(dir.resolve("config/application-y.properties"), 'c=y\nd=${_profiles[0]}')
+        Files.writeString(dir.resolve("external.json"), '{ "d": "external", "e": "external" }')
+        classLoader = new URLClassLoader([dir.toUri().toURL()] as URL[], null)
+        previousClassLoader = Thread.currentThread().getContextClassLoader()
+        Thread.currentThread().setContextClassLoader(classLoader)
+    }
+
+    def cleanup() {
+        Thread.currentThread().setContextClassLoader(previousClassLoader)
+        classLoader.close()
+    }
+
+    def "should load the same config in parallel and sequentially"() {
+        given:
+            ExecutorService executor = Executors.newFixedThreadPool(2)
+        when:
+            Config sequential = loader().loadConfig()
+            Config virtualThreads = loader().parallelLoading().loadConfig()
+            Config pool = loader().parallelLoading(executor).loadConfig()
+        then:
+            sequential.toMap() == [a: "base", b: "x", c: "y", d: "external", e: "external"]
+            virtualThreads == sequential
+            pool == sequential
+        cleanup:
+            executor.shutdown()
+    }
+
+    def "should report missing profile config when loading in parallel"() {
+        when:
+            new ConfigLoader()
+                    .configPath("config")
+                    .profiles("x", "missing")
+                    .profileConfigsRequired()
+                    .parallelLoading()
+                    .loadConfig()
+        then:
+            ConfigLoadException e = thrown(ConfigLoadException)
+            e.message == "Configuration file not found on classpath: config/application-missing"
+    }
+
+    private ConfigLoader loader() {
+        return new ConfigLoader()
+                .configPath("config")
+                .profiles("x", "y")
+                .args("--config", dir.resolve("external.json").toString())
+    }
+}
@@ -17,6 +17,7 @@ class PathValidationSpec extends Specification {
                     "a[0]",
                     "a.b.c.d",
                     "a[0].b[0].c[0][0]",
+                    "a[2147483647]",
                     "abcDefGhi0123"
             ]
     }
@@ -33,6 +34,11 @@ class PathValidationSpec extends Specification {
             path << [
                     "a[x]",
                     "a[-1]",
+                    "a[]",
+                    "a[0",
+                    "a[0]b",
+                    "a[1][]",
+                    "a[2147483648]",
                     "a..b",
                     "a. .b"
             ]
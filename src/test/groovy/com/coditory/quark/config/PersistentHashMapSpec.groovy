@@ -0,0 +1,64 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+class PersistentHashMapSpec extends Specification {
+    def "should behave like a hash map"() {
+        given:
+            Random random = new Random(42)
+            List<String> keys = (0..2000).collect { "k" + it }
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty()
+            Map<String, Integer> expected = new HashMap<>()
+        when:
+            10_000.times {
+                String key = keys[random.nextInt(keys.size())]
+                if (random.nextInt(3) == 0) {
+                    map = map.minus(key)
+                    expected.remove(key)
+                } else {
+                    int value = random.nextInt(5)
+                    map = map.plus(key, value)
+                    expected.put(key, value)
+                }
+            }
+        then:
+            map.size() == expected.size()
+            map == expected
+            map.hashCode() == expected.hashCode()
+            map.entrySet().collect { it.key }.toSet() == expected.keySet()
+    }
+
+    def "should handle keys with colliding hashes"() {
+        given:
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty()
+        expect:
+            "Aa".hashCode() == "BB".hashCode()
+        when:
+            map = map.plus("Aa", 1).plus("BB", 2).plus("C", 3)
+        then:
+            map == [Aa: 1, BB: 2, C: 3]
+        when:
+            map = map.minus("Aa")
+        then:
+            map == [BB: 2, C: 3]
+            map.hashCode() == [BB: 2, C: 3].hashCode()
+    }
+
+    def "should not modify previous versions"() {
+        given:
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty().plus("a", 1)
+        when:
+            PersistentHashMap<String, Integer> other = map.plus("b", 2).minus("a")
+        then:
+            map == [a: 1]
+            other == [b: 2]
+    }
+
+    def "should return the same instance when nothing changes"() {
+        given:
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty().plus("a", 1)
+        expect:
+            map.plus("a", 1).is(map)
+            map.minus("x").is(map)
+    }
+}
@@ -0,0 +1,52 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PersistentVectorSpec extends Specification {
+    @Unroll
+    def "should behave like a list of size: #size"() {
+        given:
+            Random random = new Random(42)
+            List<Integer> expected = (0..<size).collect { it }
+            PersistentVector<Integer> vector = PersistentVector.empty()
+            expected.each { vector = vector.plus(it) }
+        when:
+            100.times {
+                int index = random.nextInt(size)
+                vector = vector.with(index, -index)
+                expected.set(index, -index)
+            }
+        then:
+            vector == expected
+            vector.hashCode() == expected.hashCode()
+            PersistentVector.copyOf(expected) == expected
+        when:
+            int index = random.nextInt(size)
+            vector = vector.minus(index)
+            expected.remove(index)
+        then:
+            vector == expected
+        where:
+            size << [1, 31, 32, 33, 1024, 1056, 1057, 40_000]
+    }
+
+    def "should not modify previous versions"() {
+        given:
+            PersistentVector<String> vector = PersistentVector.copyOf(["a", "b"])
+        when:
+            PersistentVector<String> other = vector.plus("c").with(0, "x").minus(1)
+        then:
+            vector == ["a", "b"]
+            other == ["x", "c"]
+    }
+
+    def "should be read only"() {
+        given:
+            PersistentVector<String> vector = PersistentVector.copyOf(["a"])
+        when:
+            vector.add("b")
+        then:
+            thrown(UnsupportedOperationException)
+    }
+}
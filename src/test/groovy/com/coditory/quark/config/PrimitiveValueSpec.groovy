@@ -0,0 +1,70 @@
+package com.coditory.quark.config
+
+import spock.lang.Specification
+
+class PrimitiveValueSpec extends Specification {
+    Config config = Config.builder()
+            .put("int", 8080)
+            .put("long", 10_000_000_000L)
+            .put("double", 1.5d)
+            .put("bool", true)
+            .put("text", "42")
+            .build()
+
+    def "should resolve primitive values"() {
+        expect:
+            config.getIntValue("int", 0) == 8080
+            config.getLongValue("long", 0) == 10_000_000_000L
+            config.getDoubleValue("double", 0) == 1.5d
+            config.getBooleanValue("bool", false)
+    }
+
+    def "should widen primitive values"() {
+        expect:
+            config.getLongValue("int", 0) == 8080L
+            config.getDoubleValue("int", 0) == 8080d
+            config.getDoubleValue("long", 0) == 10_000_000_000d
+    }
+
+    def "should parse primitive values from text"() {
+        expect:
+            config.getIntValue("text", 0) == 42
+            config.getLongValue("text", 0) == 42L
+            config.getDoubleValue("text", 0) == 42d
+    }
+
+    def "should return default value for missing primitive value"() {
+        expect:
+            config.getIntValue("missing", 7) == 7
+            config.getLongValue("missing", 7) == 7L
+            config.getDoubleValue("missing", 7) == 7d
+            config.getBooleanValue("missing", true)
+    }
+
+    def "should fail on primitive value conversion error"() {
+        when:
+            config.getIntValue("bool", 0)
+        then:
+            thrown(ConfigValueConversionException)
+    }
+
+    def "should not widen long to double with precision loss"() {
+        given:
+            Config config = Config.of([exact: 1L << 60, inexact: (1L << 53) + 1])
+        expect:
+            config.getDoubleValue("exact", 0) == Math.pow(2, 60)
+        when:
+            config.getDoubleValue("inexact", 0)
+        then:
+            thrown(ConfigValueConversionException)
+    }
+
+    def "should mark primitive value as used"() {
+        given:
+            AuditableConfig auditable = Config.of([a: 1]).auditable()
+        when:
+            auditable.getIntValue("a", 0)
+        then:
+            auditable.getUnusedProperties().isEmpty()
+    }
+}
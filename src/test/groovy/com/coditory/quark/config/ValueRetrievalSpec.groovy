@@ -2,6 +2,8 @@ package com.coditory.quark.config
 
 import spock.lang.Specification
 
+import java.time.Duration
+
 class ValueRetrievalSpec extends Specification {
     def "should return nested values by path"() {
         given:
@@ -95,5 +97,40 @@ class ValueRetrievalSpec extends Specification {
             config.contains("a.b[0].c")
         and:
             !config.contains("a.b[0].d")
+            !config.contains("a.b[1].c")
+            !config.contains("a[0]")
+    }
+
+    def "should reuse converted values"() {
+        given:
+            Config config = Config.of([timeout: "1s", amount: "12.5"])
+        expect:
+            config.getDuration("timeout").is(config.getDuration("timeout"))
+            config.getBigDecimal("amount").is(config.getBigDecimal("amount"))
+        and:
+            config.getString("amount") == "12.5"
+            config.getDouble("amount") == 12.5d
+    }
+
+    def "should not share converted values between configs with different parsers"() {
+        given:
+            Config config = Config.of([timeout: "1s"])
+            Config other = Config.builder(config)
+                    .setValueParser(ValueParser.forType(Duration, { Duration.ofMinutes(5) }))
+                    .build()
+        expect:
+            config.getDuration("timeout") == Duration.ofSeconds(1)
+            other.getDuration("timeout") == Duration.ofMinutes(5)
+    }
+
+    def "should not reuse converted values of mutable types"() {
+        given:
+            Config config = Config.builder()
+                    .put("name", "x")
+                    .addValueParser(StringBuilder, { new StringBuilder(it) })
+                    .build()
+        expect:
+            config.get(StringBuilder, "name").toString() == "x"
+            !config.get(StringBuilder, "name").is(config.get(StringBuilder, "name"))
     }
 }
@@ -0,0 +1,46 @@
+package com.coditory.quark.config.builder
+
+import com.coditory.quark.config.Config
+import com.coditory.quark.config.ConfigRemoveOptions
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class MapValuesSpec extends Specification {
+    Config config = Config.builder()
+            .put("a.b", "AB")
+            .put("a.c[0]", "AC0")
+            .put("d.e", "DE")
+            .build()
+
+    def "should map values"() {
+        when:
+            Config result = Config.builder(config)
+                    .mapValues({ it == "AC0" ? "X" : it } as Function)
+                    .build()
+        then:
+            result.toMap() == [a: [b: "AB", c: ["X"]], d: [e: "DE"]]
+    }
+
+    def "should reuse unmodified sub trees"() {
+        when:
+            Config result = Config.builder(config)
+                    .mapValues({ it == "AC0" ? "X" : it } as Function)
+                    .build()
+        then:
+            result.getSubConfig("d").getRootNode().is(config.getSubConfig("d").getRootNode())
+    }
+
+    def "should return the same tree when no value is modified"() {
+        when:
+            Config mapped = Config.builder(config)
+                    .mapValues({ it } as Function)
+                    .build()
+            Config filtered = Config.builder(config)
+                    .filterValues({ key, value -> true }, ConfigRemoveOptions.removeEmptyParents())
+                    .build()
+        then:
+            mapped.getRootNode().is(config.getRootNode())
+            filtered.getRootNode().is(config.getRootNode())
+    }
+}
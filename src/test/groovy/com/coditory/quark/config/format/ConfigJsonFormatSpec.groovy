@@ -4,11 +4,19 @@ package com.coditory.quark.config.format
 import com.coditory.quark.config.Config
 import com.coditory.quark.config.ConfigFactory
 import com.coditory.quark.config.ConfigFormatter
+import com.coditory.quark.config.ConfigParseException
 import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
 
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals
 
 class ConfigJsonFormatSpec extends Specification {
+    @TempDir
+    Path dir
+
     Config config = Config.of([
             a: [
                     b: "B",
@@ -70,4 +78,63 @@ class ConfigJsonFormatSpec extends Specification {
         and:
             ConfigFormatter.toJson(Config.empty()) == "{}"
     }
+
+    def "should deserialize numbers to narrowest exact type"() {
+        when:
+            Config result = ConfigFactory.parseJson("""{ "a": $value }""")
+        then:
+            result.getObject("a").class == type
+            result.getObject("a") == expected
+        where:
+            value                  || type       | expected
+            "8080"                 || Integer    | 8080
+            "-2147483649"          || Long       | -2147483649L
+            "9223372036854775808"  || BigDecimal | new BigDecimal("9223372036854775808")
+            "8080.0"               || Double     | 8080.0d
+            "0.1"                  || Double     | 0.1d
+            "1e3"                  || Double     | 1000d
+            "1.2345678901234567"   || Double     | 1.2345678901234567d
+            "1.23456789012345678"  || BigDecimal | new BigDecimal("1.23456789012345678")
+            "1e400"                || BigDecimal | new BigDecimal("1e400")
+    }
+
+    def "should deserialize json file as utf-8"() {
+        given:
+            Path file = dir.resolve("config.json")
+            Files.write(file, '{ "a": { "b": "zażółć €" } }'.getBytes("UTF-8"))
+        when:
+            Config result = ConfigFactory.loadFromFileSystem(file.toString())
+        then:
+            result.getString("a.b") == "zażółć €"
+    }
+
+    def "should deserialize dotted keys as paths and skip null values"() {
+        when:
+            Config result = ConfigFactory.parseJson('{ "a.b": 1, "c": { "d.e": 2, "f": null } }')
+        then:
+            result.toMap() == [a: [b: 1], c: [d: [e: 2]]]
+    }
+
+    def "should keep parsed values under dotted keys"() {
+        when:
+            Config result = ConfigFactory.parseJson('{ "a.b": { "c": [1, { "d": 0.5 }] }, "a.e": 10000000000 }')
+        then:
+            result.toMap() == [a: [b: [c: [1, [d: 0.5d]]], e: 10000000000L]]
+            result.getObject("a.b.c[1].d").class == Double
+            result.getObject("a.e").class == Long
+    }
+
+    def "should fail on invalid json document"() {
+        when:
+            ConfigFactory.parseJson(json)
+        then:
+            ConfigParseException e = thrown(ConfigParseException)
+            e.cause.message.startsWith(message)
+        where:
+            json                   || message
+            '{ "a": 1, "a": 2 }'   || "Duplicate key: a"
+            '[1, 2]'               || "Expected JSON document to be an object"
+            '{ "a": 1 } { "b": 2 }' || "JSON document was not fully consumed"
+            '{ "a": [1, null] }'   || "Expected non-null JSON array element"
+    }
 }
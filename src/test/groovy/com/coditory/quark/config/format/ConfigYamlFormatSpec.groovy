@@ -3,6 +3,7 @@ package com.coditory.quark.config.format
 import com.coditory.quark.config.Config
 import com.coditory.quark.config.ConfigFactory
 import com.coditory.quark.config.ConfigFormatter
+import com.coditory.quark.config.ConfigParseException
 import spock.lang.Specification
 
 class ConfigYamlFormatSpec extends Specification {
@@ -68,4 +69,91 @@ class ConfigYamlFormatSpec extends Specification {
         and:
             ConfigFormatter.toYaml(Config.empty()) == ""
     }
+
+    def "should deserialize decimals without rounding"() {
+        when:
+            Config result = ConfigFactory.parseYaml("a: 0.1\nb: 8080\nc: 0.10000000000000000001")
+        then:
+            result.getObject("a") == 0.1d
+            result.getObject("a").class == Double
+            result.getObject("b") == 8080
+            result.getObject("c") == new BigDecimal("0.10000000000000000001")
+            result.getObject("c").class == BigDecimal
+        and:
+            result.getDoubleValue("a", 0d) == 0.1d
+    }
+
+    def "should deserialize non-string keys as written"() {
+        when:
+            Config result = ConfigFactory.parseYaml("""
+                1: a
+                true: b
+                0x1F: c
+                nested:
+                  2: d
+            """.stripIndent())
+        then:
+            result.toMap() == ["1": "a", "true": "b", "0x1F": "c", nested: ["2": "d"]]
+            result.getString("1") == "a"
+            result.getString("nested.2") == "d"
+    }
+
+    def "should share anchored nodes between aliases"() {
+        when:
+            Config result = ConfigFactory.parseYaml("""
+                defaults: &defaults
+                  timeout: 5
+                a: *defaults
+                b: *defaults
+                """.stripIndent())
+        then:
+            result.toMap() == [defaults: [timeout: 5], a: [timeout: 5], b: [timeout: 5]]
+            result.getSubConfig("a").getRootNode().is(result.getSubConfig("b").getRootNode())
+    }
+
+    def "should deserialize dotted keys as paths"() {
+        when:
+            Config result = ConfigFactory.parseYaml("""
+                a.b: 1
+                c:
+                  d.e: 2
+                """.stripIndent())
+        then:
+            result.toMap() == [a: [b: 1], c: [d: [e: 2]]]
+    }
+
+    def "should share anchored nodes between aliases under dotted keys"() {
+        when:
+            Config result = ConfigFactory.parseYaml("""
+                defaults: &defaults
+                  timeout: 5
+                a.b: *defaults
+                """.stripIndent())
+        then:
+            result.toMap() == [defaults: [timeout: 5], a: [b: [timeout: 5]]]
+            result.getSubConfig("a.b").getRootNode().is(result.getSubConfig("defaults").getRootNode())
+    }
+
+    def "should skip null values"() {
+        when:
+            Config result = ConfigFactory.parseYaml("a: null\nb:\n  c: null\n  d: 1")
+        then:
+            result.toMap() == [b: [d: 1]]
+    }
+
+    def "should fail on duplicate keys"() {
+        when:
+            ConfigFactory.parseYaml("a: 1\na: 2")
+        then:
+            ConfigParseException e = thrown(ConfigParseException)
+            e.cause.message.startsWith("Found duplicate YAML key: a")
+    }
+
+    def "should fail on yaml document that is not a mapping"() {
+        when:
+            ConfigFactory.parseYaml("- a\n- b")
+        then:
+            ConfigParseException e = thrown(ConfigParseException)
+            e.cause.message == "Expected YAML document to be a mapping"
+    }
 }
@@ -67,6 +67,29 @@ class CustomParserSpec extends Specification {
             thrown(ConfigValueConversionException)
     }
 
+    def "should check value dependent parsers before typed parsers"() {
+        given:
+            ValueParser hexParser = new ValueParser() {
+                @Override
+                boolean isApplicable(Class<?> type, String value) {
+                    return type == WrapperX && value.startsWith("0x")
+                }
+
+                @Override
+                def <T> T parse(Class<T> type, String value) {
+                    return (T) new WrapperX("hex:" + value.substring(2))
+                }
+            }
+            Config config = Config.builder()
+                    .setValueParsers([hexParser, ValueParser.forType(WrapperX, { new WrapperX(it) })])
+                    .put("hex", "0x10")
+                    .put("text", "10")
+                    .build()
+        expect:
+            config.get(WrapperX, "hex") == new WrapperX("hex:10")
+            config.get(WrapperX, "text") == new WrapperX("10")
+    }
+
     class WrapperX {
         private final String value;
 
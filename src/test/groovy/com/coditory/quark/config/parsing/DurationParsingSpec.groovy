@@ -32,6 +32,20 @@ class DurationParsingSpec extends Specification {
             "2d"     || Duration.parse("PT48H")
     }
 
+    @Unroll
+    def "should parse short Duration value with exact precision: #value"() {
+        expect:
+            parse(value) == expected
+        where:
+            value          || expected
+            "0.5ms"        || Duration.ofNanos(500_000)
+            "0.0001ms"     || Duration.ofNanos(100)
+            "1.000000001s" || Duration.ofSeconds(1, 1)
+            "123456.789s"  || Duration.ofSeconds(123456, 789_000_000)
+            "1.5d"         || Duration.ofHours(36)
+            "5 s"          || Duration.ofSeconds(5)
+    }
+
     @Unroll
     def "should not parse invalid Duration value: #value"() {
         when:
@@ -42,7 +56,11 @@ class DurationParsingSpec extends Specification {
             value << [
                     "1.5m",
                     "10.5mss",
-                    "1.0.5ms"
+                    "1.0.5ms",
+                    "1.0000000001s",
+                    "0.3d",
+                    ".5s",
+                    "5S"
             ]
     }
 